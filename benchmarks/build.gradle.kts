@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import groovy.json.JsonSlurper
+
+plugins {
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    "jmhImplementation"(projects.core)
+    "jmhImplementation"(projects.objectMapper)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+
+    benchmarkMode.set(listOf("thrpt", "avgt"))
+    timeUnit.set("us")
+    profilers.add("gc")
+
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+
+    // allows running a subset, e.g. -Pjmh.includes=ConversionBusBenchmark
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+}
+
+// the benchmarks are not a library artifact
+tasks.withType<AbstractPublishToMaven>().configureEach {
+    enabled = false
+}
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaseline = layout.projectDirectory.file("baseline.json")
+
+tasks.register<Copy>("jmhUpdateBaseline") {
+    group = "benchmark"
+    description = "Stores the latest JMH results as the baseline for jmhCompareBaseline"
+
+    from(jmhResults)
+    into(layout.projectDirectory)
+    rename { "baseline.json" }
+}
+
+tasks.register("jmhCompareBaseline") {
+    group = "benchmark"
+    description = "Fails if a JMH result regressed past -Pjmh.regressionThreshold (default 0.10) compared to the baseline"
+    mustRunAfter("jmh")
+
+    val threshold = providers.gradleProperty("jmh.regressionThreshold").map(String::toDouble).orElse(0.10)
+    val resultsFile = jmhResults.map { it.asFile }
+    val baselineFile = jmhBaseline.asFile
+
+    doLast {
+        if (!baselineFile.exists()) {
+            throw GradleException("No JMH baseline found at $baselineFile, run jmhUpdateBaseline first")
+        }
+
+        val allowed = threshold.get()
+        val baseline = readJmhScores(baselineFile)
+        val current = readJmhScores(resultsFile.get())
+        val regressions = mutableListOf<String>()
+
+        current.forEach { (key, score) ->
+            val base = baseline[key] ?: return@forEach
+            // throughput has to stay high, everything else (time, allocation) has to stay low
+            val regression = if (score.higherIsBetter) {
+                (base.value - score.value) / base.value
+            } else if (base.value > 0.0) {
+                (score.value - base.value) / base.value
+            } else {
+                if (score.value > 1.0) Double.POSITIVE_INFINITY else 0.0
+            }
+
+            if (regression > allowed) {
+                regressions += "$key: ${base.value} -> ${score.value} ${score.unit} (${"%.1f".format(regression * 100)}%)"
+            }
+        }
+
+        if (regressions.isNotEmpty()) {
+            throw GradleException("JMH results regressed more than ${allowed * 100}%:\n" + regressions.joinToString("\n"))
+        }
+        logger.lifecycle("Compared ${current.size} JMH scores against the baseline, no regressions found")
+    }
+}
+
+data class JmhScore(val value: Double, val unit: String, val higherIsBetter: Boolean)
+
+@Suppress("UNCHECKED_CAST")
+fun readJmhScores(file: File): Map<String, JmhScore> {
+    val scores = mutableMapOf<String, JmhScore>()
+    val results = JsonSlurper().parse(file) as List<Map<String, Any?>>
+
+    results.forEach { result ->
+        val params = (result["params"] as Map<String, Any?>?)?.entries?.joinToString(",", "(", ")") { "${it.key}=${it.value}" } ?: ""
+        val key = "${result["benchmark"]}$params [${result["mode"]}]"
+        val primary = result["primaryMetric"] as Map<String, Any?>
+        scores[key] = JmhScore(
+            (primary["score"] as Number).toDouble(),
+            primary["scoreUnit"].toString(),
+            result["mode"] == "thrpt"
+        )
+
+        val secondary = result["secondaryMetrics"] as Map<String, Map<String, Any?>>? ?: emptyMap()
+        secondary.filterKeys { it.endsWith("gc.alloc.rate.norm") }.values.forEach {
+            scores["$key gc.alloc.rate.norm"] = JmhScore((it["score"] as Number).toDouble(), it["scoreUnit"].toString(), false)
+        }
+    }
+
+    return scores
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.benchmark;
+
+import org.aero.conversion.core.ConversionBus;
+import org.aero.conversion.core.exception.ConversionException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@SuppressWarnings({"MissingJavaDocType", "MissingJavaDocMethod", "JavaDocVariable"})
+@State(Scope.Benchmark)
+public class BulkConversionBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ConversionBus conversionBus;
+    private ConversionBus parallelConversionBus;
+    private Object[] strings;
+    private Object[] objectTarget;
+    private int[] intTarget;
+
+    @Setup
+    public void setup() {
+        this.conversionBus = ConversionBus.createDefault();
+        this.parallelConversionBus = ConversionBus.builder().parallelismThreshold(10_000).build();
+        this.strings = new Object[this.size];
+        this.objectTarget = new Object[this.size];
+        this.intTarget = new int[this.size];
+
+        for (int i = 0; i < this.size; i++) {
+            this.strings[i] = Integer.toString(i);
+        }
+    }
+
+    @Benchmark
+    public Object convertEach() throws ConversionException {
+        for (int i = 0; i < this.strings.length; i++) {
+            this.objectTarget[i] = this.conversionBus.convert(this.strings[i], String.class, Integer.class);
+        }
+        return this.objectTarget;
+    }
+
+    @Benchmark
+    public Object convertAll() throws ConversionException {
+        this.conversionBus.convertAll(this.strings, String.class, Integer.class, this.objectTarget);
+        return this.objectTarget;
+    }
+
+    @Benchmark
+    public Object convertAllToInt() throws ConversionException {
+        this.conversionBus.convertAll(this.strings, String.class, this.intTarget);
+        return this.intTarget;
+    }
+
+    @Benchmark
+    public Object convertAllToIntParallel() throws ConversionException {
+        this.parallelConversionBus.convertAll(this.strings, String.class, this.intTarget);
+        return this.intTarget;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.benchmark;
+
+import io.leangen.geantyref.TypeToken;
+import org.aero.conversion.core.ConversionBus;
+import org.aero.conversion.core.exception.ConversionException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@SuppressWarnings({"MissingJavaDocType", "MissingJavaDocMethod", "JavaDocVariable"})
+@State(Scope.Benchmark)
+public class CollectionConversionBenchmark {
+
+    private static final Type LIST_OF_INTEGER = new TypeToken<List<Integer>>() {
+    }.getType();
+    private static final Type LIST_OF_STRING = new TypeToken<List<String>>() {
+    }.getType();
+    private static final Type COLLECTION_OF_STRING = new TypeToken<Collection<String>>() {
+    }.getType();
+    private static final Type SET_OF_INTEGER = new TypeToken<Set<Integer>>() {
+    }.getType();
+    private static final Type MAP_OF_STRING_TO_INTEGER = new TypeToken<Map<String, Integer>>() {
+    }.getType();
+    private static final Type MAP_OF_STRING_TO_STRING = new TypeToken<Map<String, String>>() {
+    }.getType();
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private ConversionBus conversionBus;
+    private ConversionBus parallelConversionBus;
+    private List<Integer> integers;
+    private List<String> strings;
+    private Map<String, Integer> integerMap;
+    private Map<String, String> stringMap;
+
+    @Setup
+    public void setup() {
+        this.conversionBus = ConversionBus.createDefault();
+        this.parallelConversionBus = ConversionBus.builder().parallelismThreshold(10_000).build();
+        this.integers = new ArrayList<>(this.size);
+        this.strings = new ArrayList<>(this.size);
+        this.integerMap = new HashMap<>();
+        this.stringMap = new HashMap<>();
+
+        for (int i = 0; i < this.size; i++) {
+            final String value = Integer.toString(i);
+            this.integers.add(i);
+            this.strings.add(value);
+            this.integerMap.put(value, i);
+            this.stringMap.put(value, value);
+        }
+    }
+
+    @Benchmark
+    public Object listOfIntegerToListOfString() throws ConversionException {
+        return this.conversionBus.convert(this.integers, LIST_OF_INTEGER, LIST_OF_STRING);
+    }
+
+    @Benchmark
+    public Object listOfIntegerToListOfStringParallel() throws ConversionException {
+        return this.parallelConversionBus.convert(this.integers, LIST_OF_INTEGER, LIST_OF_STRING);
+    }
+
+    @Benchmark
+    public Object listOfStringToSetOfInteger() throws ConversionException {
+        return this.conversionBus.convert(this.strings, LIST_OF_STRING, SET_OF_INTEGER);
+    }
+
+    @Benchmark
+    public Object listOfStringToCollectionOfString() throws ConversionException {
+        // no element changes, the source collection can be returned as is
+        return this.conversionBus.convert(this.strings, LIST_OF_STRING, COLLECTION_OF_STRING);
+    }
+
+    @Benchmark
+    public Object mapOfIntegerToMapOfString() throws ConversionException {
+        return this.conversionBus.convert(this.integerMap, MAP_OF_STRING_TO_INTEGER, MAP_OF_STRING_TO_STRING);
+    }
+
+    @Benchmark
+    public Object mapOfStringToMapOfString() throws ConversionException {
+        return this.conversionBus.convert(this.stringMap, MAP_OF_STRING_TO_STRING, MAP_OF_STRING_TO_STRING);
+    }
+}
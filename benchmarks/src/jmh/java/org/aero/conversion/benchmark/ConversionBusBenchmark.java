@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.benchmark;
+
+import io.leangen.geantyref.TypeToken;
+import org.aero.conversion.core.ConversionBus;
+import org.aero.conversion.core.ConversionPlan;
+import org.aero.conversion.core.exception.ConversionException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+@SuppressWarnings({"MissingJavaDocType", "MissingJavaDocMethod", "JavaDocVariable"})
+@State(Scope.Benchmark)
+public class ConversionBusBenchmark {
+
+    @Param
+    public Pair pair;
+
+    private ConversionBus conversionBus;
+    private Object source;
+    private Type sourceType;
+    private Type targetType;
+    private ConversionPlan<Object, Object> plan;
+
+    @Setup
+    public void setup() throws ConversionException {
+        this.conversionBus = ConversionBus.createDefault();
+        this.source = this.pair.source;
+        this.sourceType = this.pair.sourceType;
+        this.targetType = this.pair.targetType;
+
+        // fail fast instead of measuring exceptions
+        this.conversionBus.convert(this.source, this.sourceType, this.targetType);
+        this.plan = this.conversionBus.plan(this.sourceType, this.targetType);
+    }
+
+    @Benchmark
+    public Object convert() throws ConversionException {
+        return this.conversionBus.convert(this.source, this.sourceType, this.targetType);
+    }
+
+    @Benchmark
+    public Object convertWithPlan() throws ConversionException {
+        return this.plan.convert(this.source);
+    }
+
+    @Benchmark
+    public boolean canConvert() {
+        return this.conversionBus.canConvert(this.sourceType, this.targetType);
+    }
+
+    public enum Pair {
+
+        // -> Number
+        STRING_TO_INTEGER("12345", String.class, Integer.class),
+        STRING_TO_LONG("1234567890123", String.class, Long.class),
+        STRING_TO_DOUBLE("12345.678", String.class, Double.class),
+        STRING_TO_BIG_DECIMAL("12345.678", String.class, BigDecimal.class),
+        CHARACTER_TO_INTEGER('a', Character.class, Integer.class),
+        INTEGER_TO_LONG(12345, Integer.class, Long.class),
+        DOUBLE_TO_INTEGER(12345.678D, Double.class, Integer.class),
+        LONG_TO_BIG_DECIMAL(1234567890123L, Long.class, BigDecimal.class),
+        DOUBLE_TO_BIG_DECIMAL(12345.678D, Double.class, BigDecimal.class),
+        // -> Integer
+        ENUM_TO_INTEGER(TimeUnitLike.SECONDS, TimeUnitLike.class, Integer.class),
+        // -> Boolean
+        STRING_TO_BOOLEAN(" Yes ", String.class, Boolean.class),
+        // -> Character
+        STRING_TO_CHARACTER("a", String.class, Character.class),
+        NUMBER_TO_CHARACTER(97, Integer.class, Character.class),
+        // -> Charset
+        STRING_TO_CHARSET("UTF-8", String.class, Charset.class),
+        // -> Currency
+        STRING_TO_CURRENCY("EUR", String.class, Currency.class),
+        // -> UUID
+        STRING_TO_UUID("8d2b5a8e-3f4f-4c4e-9a1b-2c3d4e5f6a7b", String.class, UUID.class),
+        // -> Enum
+        STRING_TO_ENUM("SECONDS", String.class, TimeUnitLike.class),
+        // -> String
+        NUMBER_TO_STRING(12345, Integer.class, String.class),
+        CHARACTER_TO_STRING('a', Character.class, String.class),
+        BOOLEAN_TO_STRING(Boolean.TRUE, Boolean.class, String.class),
+        ENUM_TO_STRING(TimeUnitLike.SECONDS, TimeUnitLike.class, String.class),
+        LOCALE_TO_STRING(Locale.GERMANY, Locale.class, String.class),
+        CHARSET_TO_STRING(StandardCharsets.UTF_8, Charset.class, String.class),
+        CURRENCY_TO_STRING(Currency.getInstance("EUR"), Currency.class, String.class),
+        UUID_TO_STRING(UUID.fromString("8d2b5a8e-3f4f-4c4e-9a1b-2c3d4e5f6a7b"), UUID.class, String.class),
+        // no converter, same type
+        IDENTITY("value", String.class, String.class),
+        // -> Collection / Map with a single element, the sized variants live in CollectionConversionBenchmark
+        COLLECTION_TO_COLLECTION(List.of(1), new TypeToken<List<Integer>>() {
+        }.getType(), new TypeToken<List<String>>() {
+        }.getType()),
+        MAP_TO_MAP(Map.of("a", 1), new TypeToken<Map<String, Integer>>() {
+        }.getType(), new TypeToken<Map<String, String>>() {
+        }.getType()),
+        // -> Array
+        ARRAY_TO_PRIMITIVE_ARRAY(new String[] {"1", "2", "3"}, String[].class, int[].class),
+        PRIMITIVE_ARRAY_TO_ARRAY(new long[] {1L, 2L, 3L}, long[].class, String[].class),
+        ARRAY_TO_COLLECTION(new int[] {1, 2, 3}, int[].class, new TypeToken<List<String>>() {
+        }.getType()),
+        COLLECTION_TO_ARRAY(List.of("1", "2", "3"), new TypeToken<List<String>>() {
+        }.getType(), long[].class);
+
+        private final Object source;
+        private final Type sourceType;
+        private final Type targetType;
+
+        Pair(final Object source, final Type sourceType, final Type targetType) {
+            this.source = source;
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+    }
+
+    public enum TimeUnitLike {
+
+        MILLISECONDS,
+        SECONDS,
+        MINUTES
+
+    }
+}
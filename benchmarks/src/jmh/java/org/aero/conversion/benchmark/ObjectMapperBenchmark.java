@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.benchmark;
+
+import org.aero.conversion.core.ConversionBus;
+import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.objectmapper.ObjectMapper;
+import org.aero.conversion.objectmapper.converter.MapToObjectConverterFactory;
+import org.aero.conversion.objectmapper.converter.ObjectToMapConverter;
+import org.aero.conversion.objectmapper.discoverer.FieldDiscoverer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@SuppressWarnings({"MissingJavaDocType", "MissingJavaDocMethod"})
+@State(Scope.Benchmark)
+public class ObjectMapperBenchmark {
+
+    private ObjectMapper<Flat> flatMapper;
+    private ObjectMapper<Deep> deepMapper;
+    private Map<String, Object> flatSource;
+    private Map<String, Object> flatStringSource;
+    private Map<String, Object> deepSource;
+    private Flat flat;
+    private Deep deep;
+
+    @Setup
+    public void setup() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.createDefault();
+        final ObjectMapper.Factory factory = ObjectMapper.factoryBuilder()
+            .addDiscoverer(FieldDiscoverer.create())
+            .conversionBus(conversionBus)
+            .build();
+
+        // nested objects are mapped through the same factory, so the nesting depth is unlimited
+        conversionBus.register(Object.class, Map.class, new ObjectToMapConverter(factory));
+        conversionBus.register(Map.class, Object.class, new MapToObjectConverterFactory(factory));
+
+        this.flatMapper = factory.get(Flat.class);
+        this.deepMapper = factory.get(Deep.class);
+
+        this.flatSource = flatSource(1);
+        this.flatStringSource = new HashMap<>();
+        this.flatSource.forEach((key, value) -> this.flatStringSource.put(key, value.toString()));
+
+        this.deepSource = flatSource(2);
+        final Map<String, Object> middle = flatSource(3);
+        middle.put("child", flatSource(4));
+        this.deepSource.put("child", middle);
+
+        this.flat = this.flatMapper.load(this.flatSource);
+        this.deep = this.deepMapper.load(this.deepSource);
+    }
+
+    private static Map<String, Object> flatSource(final int seed) {
+        final Map<String, Object> source = new HashMap<>();
+        source.put("id", seed);
+        source.put("timestamp", 1_672_531_200_000L + seed);
+        source.put("score", seed * 1.5D);
+        source.put("active", seed % 2 == 0);
+        source.put("name", "name-" + seed);
+        return source;
+    }
+
+    @Benchmark
+    public Flat loadFlat() throws ConversionException {
+        return this.flatMapper.load(this.flatSource);
+    }
+
+    @Benchmark
+    public Flat loadFlatFromStrings() throws ConversionException {
+        return this.flatMapper.load(this.flatStringSource);
+    }
+
+    @Benchmark
+    public Deep loadDeep() throws ConversionException {
+        return this.deepMapper.load(this.deepSource);
+    }
+
+    @Benchmark
+    public Map<String, Object> saveFlat() throws ConversionException {
+        return this.flatMapper.save(this.flat);
+    }
+
+    @Benchmark
+    public Map<String, Object> saveDeep() throws ConversionException {
+        return this.deepMapper.save(this.deep);
+    }
+
+    public static class Flat {
+
+        private int id;
+        private long timestamp;
+        private double score;
+        private boolean active;
+        private String name;
+
+    }
+
+    public static class Middle extends Flat {
+
+        private Flat child;
+
+    }
+
+    public static class Deep extends Flat {
+
+        private Middle child;
+
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.benchmark;
+
+import org.aero.conversion.core.ConversionBus;
+import org.aero.conversion.core.ConversionPlan;
+import org.aero.conversion.core.exception.ConversionException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Type;
+
+@SuppressWarnings({"MissingJavaDocType", "MissingJavaDocMethod", "JavaDocVariable"})
+@State(Scope.Benchmark)
+public class PrimitiveConversionBenchmark {
+
+    @Param
+    public Source source;
+
+    private ConversionBus conversionBus;
+    private ConversionPlan<Object, Object> plan;
+
+    @Setup
+    public void setup() throws ConversionException {
+        this.conversionBus = ConversionBus.createDefault();
+        this.plan = this.conversionBus.plan((Type) this.source.value.getClass(), int.class);
+    }
+
+    @Benchmark
+    public int convertBoxed() throws ConversionException {
+        return (Integer) this.conversionBus.convert(this.source.value, this.source.value.getClass(), Integer.class);
+    }
+
+    @Benchmark
+    public int convertToInt() throws ConversionException {
+        return this.conversionBus.convertToInt(this.source.value);
+    }
+
+    @Benchmark
+    public int convertToIntWithPlan() throws ConversionException {
+        return this.plan.convertToInt(this.source.value);
+    }
+
+    public enum Source {
+
+        STRING("12345"),
+        // outside of the Integer cache
+        LONG(123456L),
+        CHARACTER('a');
+
+        private final Object value;
+
+        Source(final Object value) {
+            this.value = value;
+        }
+    }
+}
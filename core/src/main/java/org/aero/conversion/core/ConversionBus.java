@@ -17,12 +17,14 @@
 package org.aero.conversion.core;
 
 import io.leangen.geantyref.TypeToken;
+import org.aero.common.core.builder.IBuilder;
 import org.aero.conversion.core.exception.ConversionException;
-import org.aero.conversion.core.exception.ConverterNotFoundException;
-import org.aero.conversion.core.util.ConversionUtil;
+import org.aero.conversion.core.listener.ConversionListener;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Type;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 @SuppressWarnings("MissingJavaDocType")
 public sealed interface ConversionBus extends ConverterRegistry permits ConversionBusImpl {
@@ -37,6 +39,11 @@ public sealed interface ConversionBus extends ConverterRegistry permits Conversi
         return new DefaultConversionBus();
     }
 
+    @SuppressWarnings("MissingJavaDocMethod")
+    static @NotNull Builder builder() {
+        return new ConversionBusImpl.BuilderImpl();
+    }
+
     @SuppressWarnings("MissingJavaDocMethod")
     boolean canConvert(@NotNull Type sourceType, @NotNull Type targetType);
 
@@ -60,21 +67,136 @@ default boolean canConvert(@NotNull TypeToken<?> sourceTypeToken, @NotNull TypeT
     }
 
     @SuppressWarnings("MissingJavaDocMethod")
-    default @NotNull Object convertToObject(@NotNull final Object source) throws ConversionException {
-        final Class<?> sourceType = source.getClass();
+    int convertToInt(@NotNull Object source, @NotNull Type sourceType) throws ConversionException;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    default int convertToInt(@NotNull final Object source) throws ConversionException {
+        return this.convertToInt(source, source.getClass());
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    long convertToLong(@NotNull Object source, @NotNull Type sourceType) throws ConversionException;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    default long convertToLong(@NotNull final Object source) throws ConversionException {
+        return this.convertToLong(source, source.getClass());
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    double convertToDouble(@NotNull Object source, @NotNull Type sourceType) throws ConversionException;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    default double convertToDouble(@NotNull final Object source) throws ConversionException {
+        return this.convertToDouble(source, source.getClass());
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    boolean convertToBoolean(@NotNull Object source, @NotNull Type sourceType) throws ConversionException;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    default boolean convertToBoolean(@NotNull final Object source) throws ConversionException {
+        return this.convertToBoolean(source, source.getClass());
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    void convertAll(@NotNull Object[] sources, @NotNull Type sourceType, @NotNull Type targetType, @NotNull Object[] target)
+        throws ConversionException;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    void convertAll(@NotNull Object[] sources, @NotNull Type sourceType, @NotNull int[] target) throws ConversionException;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    void convertAll(@NotNull Object[] sources, @NotNull Type sourceType, @NotNull long[] target) throws ConversionException;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    void convertAll(@NotNull Object[] sources, @NotNull Type sourceType, @NotNull double[] target) throws ConversionException;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    void convertAll(@NotNull Object[] sources, @NotNull Type sourceType, @NotNull boolean[] target) throws ConversionException;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    void convertAll(@NotNull int[] sources, @NotNull long[] target);
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    void convertAll(@NotNull int[] sources, @NotNull double[] target);
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    void convertAll(@NotNull long[] sources, @NotNull double[] target);
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    @NotNull ConversionResult<Object> tryConvert(@NotNull Object source, @NotNull Type sourceType, @NotNull Type targetType);
+
+    @SuppressWarnings({"unchecked", "MissingJavaDocMethod"})
+    default <T> @NotNull ConversionResult<T> tryConvert(@NotNull Object source, @NotNull Class<T> targetType) {
+        return (ConversionResult<T>) this.tryConvert(source, source.getClass(), targetType);
+    }
+
+    @SuppressWarnings({"unchecked", "MissingJavaDocMethod"})
+    default <T, U> @NotNull ConversionResult<T> tryConvert(@NotNull U source, @NotNull TypeToken<U> sourceTypeToken,
+        @NotNull TypeToken<T> targetTypeToken
+    ) {
+        return (ConversionResult<T>) this.tryConvert(source, sourceTypeToken.getType(), targetTypeToken.getType());
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    @NotNull ConversionPlan<Object, Object> plan(@NotNull Type sourceType, @NotNull Type targetType) throws ConversionException;
 
-        for (final Class<?> targetType : ConversionUtil.OBJECT_TYPES) {
-            if (!this.canConvert(sourceType, targetType)) {
-                continue;
-            }
+    @SuppressWarnings({"unchecked", "MissingJavaDocMethod"})
+    default <T, U> @NotNull ConversionPlan<T, U> plan(@NotNull Class<T> sourceType, @NotNull Class<U> targetType) throws ConversionException {
+        return (ConversionPlan<T, U>) this.plan((Type) sourceType, targetType);
+    }
+
+    @SuppressWarnings({"unchecked", "MissingJavaDocMethod"})
+    default <T, U> @NotNull ConversionPlan<T, U> plan(@NotNull TypeToken<T> sourceTypeToken, @NotNull TypeToken<U> targetTypeToken)
+        throws ConversionException {
+        return (ConversionPlan<T, U>) this.plan(sourceTypeToken.getType(), targetTypeToken.getType());
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    @NotNull Object convertToObject(@NotNull Object source) throws ConversionException;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    @NotNull ConversionListener listener();
+
+    // changes with every registration, so plans cached outside the bus can tell when they are stale
+    @SuppressWarnings("MissingJavaDocMethod")
+    int version();
+
+    @SuppressWarnings("MissingJavaDocType")
+    interface Builder extends IBuilder<ConversionBus> {
+
+        @SuppressWarnings("MissingJavaDocMethod")
+        @NotNull Builder defaultConverters(boolean defaultConverters);
+
+        @SuppressWarnings("MissingJavaDocMethod")
+        @NotNull Builder lightweightExceptions(boolean lightweightExceptions);
+
+        @SuppressWarnings("MissingJavaDocMethod")
+        @NotNull Builder caseInsensitiveEnums(boolean caseInsensitiveEnums);
+
+        @SuppressWarnings("MissingJavaDocMethod")
+        @NotNull Builder booleanTokens(@NotNull Set<String> trueTokens, @NotNull Set<String> falseTokens);
+
+        @SuppressWarnings("MissingJavaDocMethod")
+        @NotNull Builder parallelismThreshold(int parallelismThreshold);
+
+        @SuppressWarnings("MissingJavaDocMethod")
+        @NotNull Builder forkJoinPool(@NotNull ForkJoinPool forkJoinPool);
+
+        @SuppressWarnings("MissingJavaDocMethod")
+        @NotNull Builder lazyViews(@NotNull LazyViews lazyViews);
+
+        @SuppressWarnings("MissingJavaDocMethod")
+        @NotNull Builder listener(@NotNull ConversionListener listener);
+
+    }
 
-            try {
-                return this.convert(source, targetType);
-            } catch (ConversionException ignored) {
+    @SuppressWarnings({"MissingJavaDocType", "JavaDocVariable"})
+    enum LazyViews {
 
-            }
-        }
+        DISABLED,
+        ENABLED,
+        MEMOIZED
 
-        throw new ConverterNotFoundException(source.getClass());
     }
 }
@@ -22,45 +22,95 @@
 import org.aero.conversion.core.converter.Converter;
 import org.aero.conversion.core.converter.ConverterCondition;
 import org.aero.conversion.core.converter.ConverterFactory;
+import org.aero.conversion.core.converter.PlanningConverter;
+import org.aero.conversion.core.converter.StringToBooleanConverter;
+import org.aero.conversion.core.converter.ToBooleanConverter;
+import org.aero.conversion.core.converter.ToDoubleConverter;
+import org.aero.conversion.core.converter.ToIntConverter;
+import org.aero.conversion.core.converter.ToLongConverter;
 import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.exception.ConversionFailedException;
 import org.aero.conversion.core.exception.ConverterNotFoundException;
+import org.aero.conversion.core.exception.NullElementException;
+import org.aero.conversion.core.listener.ConversionListener;
+import org.aero.conversion.core.util.ConversionUtil;
+import org.aero.conversion.core.util.ParallelConversion;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Type;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 
 @SuppressWarnings({"unchecked"})
 sealed class ConversionBusImpl implements ConversionBus permits DefaultConversionBus {
 
     private static final ConditionalConverter<Object, Object> NO_OP_CONVERTER = new NoOpConverter();
-
-    private final Set<ConditionalConverter<Object, Object>> converters;
-    private final Map<Key, ConditionalConverter<Object, Object>> cache = new ConcurrentHashMap<>(64);
+    private static final int DEFAULT_PARALLELISM_THRESHOLD = Integer.MAX_VALUE;
+
+    final boolean lightweightExceptions;
+    final boolean caseInsensitiveEnums;
+    final Set<String> trueTokens;
+    final Set<String> falseTokens;
+    final ParallelConversion parallelConversion;
+    final LazyViews lazyViews;
+    private final ConversionListener listener;
+    private final AtomicReference<ConverterIndex> converters;
+    private final Map<Key, Resolution> cache = new ConcurrentHashMap<>(64);
+    private final ClassValue<AtomicReference<ObjectConversion>> objectConversions = new ClassValue<>() {
+        @Override
+        protected AtomicReference<ObjectConversion> computeValue(final Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
 
     ConversionBusImpl() {
-        this.converters = new HashSet<>();
+        this(new BuilderImpl());
+    }
+
+    ConversionBusImpl(final BuilderImpl builder) {
+        this.lightweightExceptions = builder.lightweightExceptions;
+        this.caseInsensitiveEnums = builder.caseInsensitiveEnums;
+        this.trueTokens = builder.trueTokens;
+        this.falseTokens = builder.falseTokens;
+        this.parallelConversion = new ParallelConversion(builder.parallelismThreshold, builder.forkJoinPool);
+        this.lazyViews = builder.lazyViews;
+        this.listener = builder.listener;
+        this.converters = new AtomicReference<>(ConverterIndex.EMPTY);
     }
 
     @Override
     public <U, V> void register(@NotNull final Class<? extends U> source, @NotNull final Class<V> target, @NotNull final Converter<U, V> converter) {
-        this.register(new ConverterAdapter(converter, source, target));
+        this.register(new ConverterAdapter(converter, source, target), source, target);
     }
 
     @Override
     public void register(@NotNull final ConditionalConverter<?, ?> converter) {
-        this.converters.add((ConditionalConverter<Object, Object>) converter);
-        this.invalidateCache();
+        this.register(converter, ConverterIndex.Scope.ANY);
+    }
+
+    // the built-in converters declare which types they handle, so registrations elsewhere keep their cached resolutions valid
+    void register(@NotNull final ConditionalConverter<?, ?> converter, @NotNull final ConverterIndex.Scope scope) {
+        this.converters.updateAndGet(index -> index.with((ConditionalConverter<Object, Object>) converter, scope));
     }
 
     @Override
     public <U, V> void register(@NotNull final Class<? extends U> source, @NotNull final Class<V> target,
         @NotNull final ConverterFactory<?, ?> factory
     ) {
-        this.register(new ConverterFactoryAdapter(factory, source, target));
+        this.register(new ConverterFactoryAdapter(factory, source, target), source, target);
+    }
+
+    private void register(final ConditionalConverter<Object, Object> converter, final Class<?> source, final Class<?> target) {
+        // Cached resolutions are validated against the new snapshot lazily, see converter(Type, Type)
+        this.converters.updateAndGet(index -> index.with(converter, source, target));
     }
 
     @Override
@@ -81,30 +131,443 @@ public boolean canConvert(@NotNull final Type sourceType, @NotNull final Type ta
 
         if (converter == null) {
             // No Converter found
-            throw new ConverterNotFoundException(sourceType, boxedTargetType);
+            this.listener.failed(sourceType, boxedTargetType, ConverterNotFoundException.class);
+            throw new ConverterNotFoundException(sourceType, boxedTargetType, !this.lightweightExceptions);
         }
 
-        return converter.convert(source, sourceType, boxedTargetType);
+        final long start = start(this.listener);
+        try {
+            final Object result = converter.convert(source, sourceType, boxedTargetType);
+            converted(this.listener, sourceType, boxedTargetType, start);
+            return result;
+        } catch (final ConversionException e) {
+            this.listener.failed(sourceType, boxedTargetType, e.getClass());
+            throw e;
+        }
     }
 
-    private @Nullable Converter<Object, Object> converter(@NotNull final Type sourceType, @NotNull final Type targetType) {
-        return this.cache.computeIfAbsent(new Key(sourceType, targetType), param -> {
-            for (final ConditionalConverter<Object, Object> conv : this.converters) {
-                if (conv.matches(param.sourceType(), param.targetType())) {
-                    return conv;
-                }
+    @Override
+    public int convertToInt(@NotNull final Object source, @NotNull final Type sourceType) throws ConversionException {
+        final Converter<Object, Object> converter = this.boundConverter(source, sourceType, Integer.class);
+        final long start = start(this.listener);
+        try {
+            final int result = converter instanceof ToIntConverter<?> primitiveConverter
+                ? ((ToIntConverter<Object>) primitiveConverter).convertToInt(source, sourceType)
+                : (Integer) converter.convert(source, sourceType, Integer.class);
+            converted(this.listener, sourceType, Integer.class, start);
+            return result;
+        } catch (final ConversionException e) {
+            this.listener.failed(sourceType, Integer.class, e.getClass());
+            throw e;
+        }
+    }
+
+    @Override
+    public long convertToLong(@NotNull final Object source, @NotNull final Type sourceType) throws ConversionException {
+        final Converter<Object, Object> converter = this.boundConverter(source, sourceType, Long.class);
+        final long start = start(this.listener);
+        try {
+            final long result = converter instanceof ToLongConverter<?> primitiveConverter
+                ? ((ToLongConverter<Object>) primitiveConverter).convertToLong(source, sourceType)
+                : (Long) converter.convert(source, sourceType, Long.class);
+            converted(this.listener, sourceType, Long.class, start);
+            return result;
+        } catch (final ConversionException e) {
+            this.listener.failed(sourceType, Long.class, e.getClass());
+            throw e;
+        }
+    }
+
+    @Override
+    public double convertToDouble(@NotNull final Object source, @NotNull final Type sourceType) throws ConversionException {
+        final Converter<Object, Object> converter = this.boundConverter(source, sourceType, Double.class);
+        final long start = start(this.listener);
+        try {
+            final double result = converter instanceof ToDoubleConverter<?> primitiveConverter
+                ? ((ToDoubleConverter<Object>) primitiveConverter).convertToDouble(source, sourceType)
+                : (Double) converter.convert(source, sourceType, Double.class);
+            converted(this.listener, sourceType, Double.class, start);
+            return result;
+        } catch (final ConversionException e) {
+            this.listener.failed(sourceType, Double.class, e.getClass());
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean convertToBoolean(@NotNull final Object source, @NotNull final Type sourceType) throws ConversionException {
+        final Converter<Object, Object> converter = this.boundConverter(source, sourceType, Boolean.class);
+        final long start = start(this.listener);
+        try {
+            final boolean result = converter instanceof ToBooleanConverter<?> primitiveConverter
+                ? ((ToBooleanConverter<Object>) primitiveConverter).convertToBoolean(source, sourceType)
+                : (Boolean) converter.convert(source, sourceType, Boolean.class);
+            converted(this.listener, sourceType, Boolean.class, start);
+            return result;
+        } catch (final ConversionException e) {
+            this.listener.failed(sourceType, Boolean.class, e.getClass());
+            throw e;
+        }
+    }
+
+    private Converter<Object, Object> boundConverter(final Object source, final Type sourceType, final Class<?> targetType)
+        throws ConversionException {
+        Check.notNull(source, "source");
+        Check.notNull(sourceType, "sourceType");
+        final Converter<Object, Object> converter = this.converter(sourceType, targetType);
+
+        if (converter == null) {
+            this.listener.failed(sourceType, targetType, ConverterNotFoundException.class);
+            throw new ConverterNotFoundException(sourceType, targetType, !this.lightweightExceptions);
+        }
+        return bind(converter, targetType);
+    }
+
+    @Override
+    public void convertAll(@NotNull final Object[] sources, @NotNull final Type sourceType, @NotNull final Type targetType,
+        @NotNull final Object[] target
+    ) throws ConversionException {
+        checkBounds(sources, target);
+        final ConversionPlan<Object, Object> plan = this.plan(sourceType, targetType);
+
+        this.parallelConversion.forEachRange(sources.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                final Object source = sources[i];
+                target[i] = source == null ? null : plan.convert(source);
+            }
+        });
+    }
+
+    @Override
+    public void convertAll(@NotNull final Object[] sources, @NotNull final Type sourceType, @NotNull final int[] target)
+        throws ConversionException {
+        checkBounds(sources, target);
+        final ConversionPlan<Object, Object> plan = this.plan(sourceType, int.class);
+
+        this.parallelConversion.forEachRange(sources.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                target[i] = plan.convertToInt(this.element(sources, i, int.class));
+            }
+        });
+    }
+
+    @Override
+    public void convertAll(@NotNull final Object[] sources, @NotNull final Type sourceType, @NotNull final long[] target)
+        throws ConversionException {
+        checkBounds(sources, target);
+        final ConversionPlan<Object, Object> plan = this.plan(sourceType, long.class);
+
+        this.parallelConversion.forEachRange(sources.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                target[i] = plan.convertToLong(this.element(sources, i, long.class));
             }
+        });
+    }
+
+    @Override
+    public void convertAll(@NotNull final Object[] sources, @NotNull final Type sourceType, @NotNull final double[] target)
+        throws ConversionException {
+        checkBounds(sources, target);
+        final ConversionPlan<Object, Object> plan = this.plan(sourceType, double.class);
 
-            if (GenericTypeReflector.isSuperType(sourceType, targetType)) {
-                return NO_OP_CONVERTER;
+        this.parallelConversion.forEachRange(sources.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                target[i] = plan.convertToDouble(this.element(sources, i, double.class));
             }
+        });
+    }
 
-            return null;
+    @Override
+    public void convertAll(@NotNull final Object[] sources, @NotNull final Type sourceType, @NotNull final boolean[] target)
+        throws ConversionException {
+        checkBounds(sources, target);
+        final ConversionPlan<Object, Object> plan = this.plan(sourceType, boolean.class);
+
+        this.parallelConversion.forEachRange(sources.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                target[i] = plan.convertToBoolean(this.element(sources, i, boolean.class));
+            }
         });
     }
 
-    private void invalidateCache() {
-        this.cache.clear();
+    // primitive widening is defined by the language, no converter is involved
+    @Override
+    public void convertAll(@NotNull final int[] sources, @NotNull final long[] target) {
+        checkBounds(sources, target);
+        for (int i = 0; i < sources.length; i++) {
+            target[i] = sources[i];
+        }
+    }
+
+    @Override
+    public void convertAll(@NotNull final int[] sources, @NotNull final double[] target) {
+        checkBounds(sources, target);
+        for (int i = 0; i < sources.length; i++) {
+            target[i] = sources[i];
+        }
+    }
+
+    @Override
+    public void convertAll(@NotNull final long[] sources, @NotNull final double[] target) {
+        checkBounds(sources, target);
+        for (int i = 0; i < sources.length; i++) {
+            target[i] = sources[i];
+        }
+    }
+
+    private static void checkBounds(final Object sources, final Object target) {
+        Check.notNull(sources, "sources");
+        Check.notNull(target, "target");
+        if (Array.getLength(target) < Array.getLength(sources)) {
+            throw new IllegalArgumentException("target is shorter than sources");
+        }
+    }
+
+    private Object element(final Object[] sources, final int index, final Class<?> targetType) throws ConversionException {
+        final Object source = sources[index];
+        if (source == null) {
+            throw new NullElementException(targetType, index, !this.lightweightExceptions);
+        }
+        return source;
+    }
+
+    @Override
+    public @NotNull ConversionResult<Object> tryConvert(@NotNull final Object source, @NotNull final Type sourceType,
+        @NotNull final Type targetType
+    ) {
+        Check.notNull(source, "source");
+        Check.notNull(targetType, "targetType");
+
+        final Type boxedTargetType = GenericTypeReflector.box(targetType);
+        final Converter<Object, Object> converter = this.converter(sourceType, boxedTargetType);
+
+        if (converter == null) {
+            this.listener.failed(sourceType, boxedTargetType, ConverterNotFoundException.class);
+            return ConversionResult.failure(new ConverterNotFoundException(sourceType, boxedTargetType, false));
+        }
+
+        final long start = start(this.listener);
+        final Object result = converter.tryConvert(source, sourceType, boxedTargetType);
+        if (result == null) {
+            this.listener.failed(sourceType, boxedTargetType, ConversionFailedException.class);
+            return ConversionResult.failure(sourceType, boxedTargetType, !this.lightweightExceptions);
+        }
+
+        converted(this.listener, sourceType, boxedTargetType, start);
+        return ConversionResult.success(result);
+    }
+
+    @Override
+    public @NotNull ConversionPlan<Object, Object> plan(@NotNull final Type sourceType, @NotNull final Type targetType)
+        throws ConversionException {
+        Check.notNull(sourceType, "sourceType");
+        Check.notNull(targetType, "targetType");
+
+        final Type boxedTargetType = GenericTypeReflector.box(targetType);
+        final Converter<Object, Object> converter = this.converter(sourceType, boxedTargetType);
+
+        if (converter == null) {
+            this.listener.failed(sourceType, boxedTargetType, ConverterNotFoundException.class);
+            throw new ConverterNotFoundException(sourceType, boxedTargetType, !this.lightweightExceptions);
+        }
+
+        if (converter == NO_OP_CONVERTER) {
+            return new IdentityPlan(sourceType, boxedTargetType);
+        }
+
+        // Bind the converter which is actually doing the work, so the plan skips the adapters
+        final Converter<Object, Object> boundConverter = bind(converter, boxedTargetType);
+        final ConversionPlan<Object, Object> plan = boundConverter instanceof PlanningConverter<Object, Object> planningConverter
+            ? planningConverter.plan(sourceType, boxedTargetType)
+            : new BoundPlan(boundConverter, sourceType, boxedTargetType);
+
+        // plans are only wrapped when somebody listens, so the default plans stay as direct as they are
+        return this.listener == ConversionListener.NO_OP ? plan : new ObservedPlan(plan, this.listener);
+    }
+
+    @Override
+    public @NotNull ConversionListener listener() {
+        return this.listener;
+    }
+
+    @Override
+    public int version() {
+        return this.converters.get().version();
+    }
+
+    private static long start(final ConversionListener listener) {
+        return listener.sample() ? System.nanoTime() : ConversionListener.UNTIMED;
+    }
+
+    private static void converted(final ConversionListener listener, final Type sourceType, final Type targetType, final long start) {
+        listener.converted(sourceType, targetType, start == ConversionListener.UNTIMED ? ConversionListener.UNTIMED : System.nanoTime() - start);
+    }
+
+    @Override
+    public @NotNull Object convertToObject(@NotNull final Object source) throws ConversionException {
+        Check.notNull(source, "source");
+        final Class<?> sourceType = source.getClass();
+        final int version = this.converters.get().version();
+
+        final AtomicReference<ObjectConversion> slot = this.objectConversions.get(sourceType);
+        ObjectConversion conversion = slot.get();
+        if (conversion == null || conversion.version() != version) {
+            conversion = new ObjectConversion(version, this.objectPlans(sourceType));
+            slot.set(conversion);
+        }
+
+        final List<ConversionPlan<Object, Object>> plans = conversion.plans();
+        if (plans.size() == 1) {
+            return plans.get(0).convert(source);
+        }
+
+        // a value may not fit into an earlier object type, e.g. a Double above Short.MAX_VALUE, so the next one is tried
+        for (final ConversionPlan<Object, Object> plan : plans) {
+            final Object converted = plan.tryConvert(source);
+            if (converted != null) {
+                return converted;
+            }
+        }
+        throw new ConverterNotFoundException(sourceType, null, !this.lightweightExceptions);
+    }
+
+    private List<ConversionPlan<Object, Object>> objectPlans(final Class<?> sourceType) throws ConversionException {
+        // values which already are one of the object types are kept as they are
+        for (final Class<?> targetType : ConversionUtil.OBJECT_TYPES) {
+            if (targetType.isAssignableFrom(sourceType)) {
+                return List.of(new IdentityPlan(sourceType, sourceType));
+            }
+        }
+
+        final List<ConversionPlan<Object, Object>> plans = new ArrayList<>();
+        for (final Class<?> targetType : ConversionUtil.OBJECT_TYPES) {
+            if (this.canConvert(sourceType, targetType)) {
+                plans.add(this.plan((Type) sourceType, targetType));
+            }
+        }
+        return plans;
+    }
+
+    private static Converter<Object, Object> bind(final Converter<Object, Object> converter, final Type targetType) throws ConversionException {
+        if (converter instanceof ConverterAdapter adapter) {
+            return adapter.converter;
+        } else if (converter instanceof ConverterFactoryAdapter adapter) {
+            return adapter.converter(targetType);
+        }
+        return converter;
+    }
+
+    private @Nullable Converter<Object, Object> converter(@NotNull final Type sourceType, @NotNull final Type targetType) {
+        final ConverterIndex index = this.converters.get();
+        final Key key = new Key(sourceType, targetType);
+        final Resolution cached = this.cache.get(key);
+
+        if (cached != null) {
+            if (cached.version() == index.version()) {
+                this.listener.cacheHit(sourceType, targetType);
+                return cached.converter();
+            }
+
+            // Only converters registered later which accept the same types can change the resolution
+            if (!cached.opaque() && !index.affects(cached.version(), sourceType, targetType)) {
+                this.cache.replace(key, cached, new Resolution(index.version(), cached.converter(), false));
+                this.listener.cacheHit(sourceType, targetType);
+                return cached.converter();
+            }
+        }
+
+        this.listener.cacheMiss(sourceType, targetType);
+        final Resolution resolution = this.resolve(index, sourceType, targetType);
+        this.cache.put(key, resolution);
+        return resolution.converter();
+    }
+
+    private Resolution resolve(final ConverterIndex index, final Type sourceType, final Type targetType) {
+        final ConverterIndex.Match match = index.find(sourceType, targetType);
+        if (match.converter() != null) {
+            return new Resolution(index.version(), match.converter(), match.opaque());
+        }
+
+        if (GenericTypeReflector.isSuperType(targetType, sourceType)) {
+            return new Resolution(index.version(), NO_OP_CONVERTER, match.opaque());
+        }
+
+        return new Resolution(index.version(), null, match.opaque());
+    }
+
+    static final class BuilderImpl implements ConversionBus.Builder {
+
+        private boolean defaultConverters = true;
+        private boolean lightweightExceptions;
+        private boolean caseInsensitiveEnums;
+        private Set<String> trueTokens = StringToBooleanConverter.TRUE_TOKENS;
+        private Set<String> falseTokens = StringToBooleanConverter.FALSE_TOKENS;
+        private int parallelismThreshold = DEFAULT_PARALLELISM_THRESHOLD;
+        private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+        private LazyViews lazyViews = LazyViews.DISABLED;
+        private ConversionListener listener = ConversionListener.NO_OP;
+
+        @Override
+        public @NotNull Builder defaultConverters(final boolean defaultConverters) {
+            this.defaultConverters = defaultConverters;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder lightweightExceptions(final boolean lightweightExceptions) {
+            this.lightweightExceptions = lightweightExceptions;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder caseInsensitiveEnums(final boolean caseInsensitiveEnums) {
+            this.caseInsensitiveEnums = caseInsensitiveEnums;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder booleanTokens(@NotNull final Set<String> trueTokens, @NotNull final Set<String> falseTokens) {
+            Check.notNull(trueTokens, "trueTokens");
+            Check.notNull(falseTokens, "falseTokens");
+            this.trueTokens = Set.copyOf(trueTokens);
+            this.falseTokens = Set.copyOf(falseTokens);
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder parallelismThreshold(final int parallelismThreshold) {
+            if (parallelismThreshold <= 0) {
+                throw new IllegalArgumentException("parallelismThreshold must be positive");
+            }
+            this.parallelismThreshold = parallelismThreshold;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder forkJoinPool(@NotNull final ForkJoinPool forkJoinPool) {
+            Check.notNull(forkJoinPool, "forkJoinPool");
+            this.forkJoinPool = forkJoinPool;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder lazyViews(@NotNull final LazyViews lazyViews) {
+            Check.notNull(lazyViews, "lazyViews");
+            this.lazyViews = lazyViews;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder listener(@NotNull final ConversionListener listener) {
+            Check.notNull(listener, "listener");
+            this.listener = listener;
+            return this;
+        }
+
+        @Override
+        public @UnknownNullability ConversionBus build() {
+            return this.defaultConverters ? new DefaultConversionBus(this) : new ConversionBusImpl(this);
+        }
     }
 
     private static final class ConverterAdapter implements ConditionalConverter<Object, Object> {
@@ -126,6 +589,11 @@ private ConverterAdapter(final Converter<?, ?> converter, final Type sourceType,
             return this.converter.convert(source, sourceType, targetType);
         }
 
+        @Override
+        public @Nullable Object tryConvert(@NotNull final Object source, @NotNull final Type sourceType, @NotNull final Type targetType) {
+            return this.converter.tryConvert(source, sourceType, targetType);
+        }
+
         @Override
         public boolean matches(final @NotNull Type sourceType, final @NotNull Type targetType) {
             if (this.targetType != targetType) {
@@ -141,6 +609,18 @@ private static final class ConverterFactoryAdapter implements ConditionalConvert
         private final ConverterFactory<Object, Object> converterFactory;
         private final Class<?> sourceType;
         private final Class<?> targetType;
+        // Factory products only depend on the erased target type, so each one is created once
+        private final ClassValue<Converter<Object, Object>> converters = new ClassValue<>() {
+            @Override
+            protected Converter<Object, Object> computeValue(final Class<?> type) {
+                try {
+                    return ConverterFactoryAdapter.this.converterFactory.create((Class<Object>) type);
+                } catch (final ConversionException e) {
+                    // Not cached, ClassValue only stores successfully computed values
+                    throw new CreationFailedException(e);
+                }
+            }
+        };
 
         private ConverterFactoryAdapter(final ConverterFactory<?, ?> converterFactory, final Class<?> sourceType,
             final Class<?> targetType
@@ -154,29 +634,61 @@ private ConverterFactoryAdapter(final ConverterFactory<?, ?> converterFactory, f
         public @NotNull Object convert(@NotNull final Object source, @NotNull final Type sourceType,
             @NotNull final Type targetType
         ) throws ConversionException {
-            return this.converterFactory.create(GenericTypeReflector.erase(targetType))
-                .convert(source, sourceType, targetType);
+            return this.converter(targetType).convert(source, sourceType, targetType);
+        }
+
+        @Override
+        public @Nullable Object tryConvert(@NotNull final Object source, @NotNull final Type sourceType, @NotNull final Type targetType) {
+            try {
+                return this.converter(targetType).tryConvert(source, sourceType, targetType);
+            } catch (final ConversionException ignored) {
+                // the factory was unable to create a converter for the target type
+                return null;
+            }
         }
 
         @Override
         public boolean matches(@NotNull final Type sourceType, @NotNull final Type targetType) {
-            if (this.converterFactory instanceof ConverterCondition condition && condition.matches(sourceType, targetType)) {
-                try {
-                    final Converter<?, ?> converter = this.converterFactory.create(GenericTypeReflector.erase(targetType));
+            if (!GenericTypeReflector.isSuperType(this.targetType, targetType)
+                || !GenericTypeReflector.isSuperType(this.sourceType, sourceType)
+            ) {
+                return false;
+            }
 
-                    if (converter instanceof ConverterCondition converterCondition) {
-                        return converterCondition.matches(sourceType, targetType);
-                    }
-                } catch (final ConversionException ignored) {
-                    return false;
-                }
+            if (!(this.converterFactory instanceof ConverterCondition condition)) {
+                return true;
             }
 
-            if (!GenericTypeReflector.isSuperType(this.targetType, targetType)) {
+            if (!condition.matches(sourceType, targetType)) {
                 return false;
             }
 
-            return GenericTypeReflector.isSuperType(this.sourceType, sourceType);
+            try {
+                final Converter<?, ?> converter = this.converter(targetType);
+                return !(converter instanceof ConverterCondition converterCondition) || converterCondition.matches(sourceType, targetType);
+            } catch (final ConversionException ignored) {
+                return false;
+            }
+        }
+
+        private Converter<Object, Object> converter(final Type targetType) throws ConversionException {
+            try {
+                return this.converters.get(GenericTypeReflector.erase(targetType));
+            } catch (final CreationFailedException e) {
+                throw e.failure;
+            }
+        }
+    }
+
+    private static final class CreationFailedException extends RuntimeException {
+
+        private static final long serialVersionUID = 6342791853029618147L;
+
+        private final ConversionException failure;
+
+        private CreationFailedException(final ConversionException cause) {
+            super(null, cause, false, false);
+            this.failure = cause;
         }
     }
 
@@ -194,6 +706,162 @@ public boolean equals(@Nullable final Object other) {
         }
     }
 
+    private record Resolution(int version, @Nullable ConditionalConverter<Object, Object> converter, boolean opaque) {
+
+    }
+
+    private record ObjectConversion(int version, List<ConversionPlan<Object, Object>> plans) {
+
+    }
+
+    private record BoundPlan(Converter<Object, Object> converter, Type sourceType, Type targetType) implements ConversionPlan<Object, Object> {
+
+        @Override
+        public @NotNull Object convert(@NotNull final Object source) throws ConversionException {
+            return this.converter.convert(source, this.sourceType, this.targetType);
+        }
+
+        @Override
+        public @Nullable Object tryConvert(@NotNull final Object source) {
+            return this.converter.tryConvert(source, this.sourceType, this.targetType);
+        }
+
+        @Override
+        public int convertToInt(@NotNull final Object source) throws ConversionException {
+            if (this.targetType == Integer.class && this.converter instanceof ToIntConverter<?> primitiveConverter) {
+                return ((ToIntConverter<Object>) primitiveConverter).convertToInt(source, this.sourceType);
+            }
+            return ConversionPlan.super.convertToInt(source);
+        }
+
+        @Override
+        public long convertToLong(@NotNull final Object source) throws ConversionException {
+            if (this.targetType == Long.class && this.converter instanceof ToLongConverter<?> primitiveConverter) {
+                return ((ToLongConverter<Object>) primitiveConverter).convertToLong(source, this.sourceType);
+            }
+            return ConversionPlan.super.convertToLong(source);
+        }
+
+        @Override
+        public double convertToDouble(@NotNull final Object source) throws ConversionException {
+            if (this.targetType == Double.class && this.converter instanceof ToDoubleConverter<?> primitiveConverter) {
+                return ((ToDoubleConverter<Object>) primitiveConverter).convertToDouble(source, this.sourceType);
+            }
+            return ConversionPlan.super.convertToDouble(source);
+        }
+
+        @Override
+        public boolean convertToBoolean(@NotNull final Object source) throws ConversionException {
+            if (this.targetType == Boolean.class && this.converter instanceof ToBooleanConverter<?> primitiveConverter) {
+                return ((ToBooleanConverter<Object>) primitiveConverter).convertToBoolean(source, this.sourceType);
+            }
+            return ConversionPlan.super.convertToBoolean(source);
+        }
+    }
+
+    private record ObservedPlan(ConversionPlan<Object, Object> plan, ConversionListener listener) implements ConversionPlan<Object, Object> {
+
+        @Override
+        public @NotNull Type sourceType() {
+            return this.plan.sourceType();
+        }
+
+        @Override
+        public @NotNull Type targetType() {
+            return this.plan.targetType();
+        }
+
+        @Override
+        public @NotNull Object convert(@NotNull final Object source) throws ConversionException {
+            final long start = start(this.listener);
+            try {
+                final Object result = this.plan.convert(source);
+                converted(this.listener, this.plan.sourceType(), this.plan.targetType(), start);
+                return result;
+            } catch (final ConversionException e) {
+                this.listener.failed(this.plan.sourceType(), this.plan.targetType(), e.getClass());
+                throw e;
+            }
+        }
+
+        @Override
+        public @Nullable Object tryConvert(@NotNull final Object source) {
+            final long start = start(this.listener);
+            final Object result = this.plan.tryConvert(source);
+            if (result == null) {
+                this.listener.failed(this.plan.sourceType(), this.plan.targetType(), ConversionFailedException.class);
+            } else {
+                converted(this.listener, this.plan.sourceType(), this.plan.targetType(), start);
+            }
+            return result;
+        }
+
+        @Override
+        public int convertToInt(@NotNull final Object source) throws ConversionException {
+            final long start = start(this.listener);
+            try {
+                final int result = this.plan.convertToInt(source);
+                converted(this.listener, this.plan.sourceType(), this.plan.targetType(), start);
+                return result;
+            } catch (final ConversionException e) {
+                this.listener.failed(this.plan.sourceType(), this.plan.targetType(), e.getClass());
+                throw e;
+            }
+        }
+
+        @Override
+        public long convertToLong(@NotNull final Object source) throws ConversionException {
+            final long start = start(this.listener);
+            try {
+                final long result = this.plan.convertToLong(source);
+                converted(this.listener, this.plan.sourceType(), this.plan.targetType(), start);
+                return result;
+            } catch (final ConversionException e) {
+                this.listener.failed(this.plan.sourceType(), this.plan.targetType(), e.getClass());
+                throw e;
+            }
+        }
+
+        @Override
+        public double convertToDouble(@NotNull final Object source) throws ConversionException {
+            final long start = start(this.listener);
+            try {
+                final double result = this.plan.convertToDouble(source);
+                converted(this.listener, this.plan.sourceType(), this.plan.targetType(), start);
+                return result;
+            } catch (final ConversionException e) {
+                this.listener.failed(this.plan.sourceType(), this.plan.targetType(), e.getClass());
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean convertToBoolean(@NotNull final Object source) throws ConversionException {
+            final long start = start(this.listener);
+            try {
+                final boolean result = this.plan.convertToBoolean(source);
+                converted(this.listener, this.plan.sourceType(), this.plan.targetType(), start);
+                return result;
+            } catch (final ConversionException e) {
+                this.listener.failed(this.plan.sourceType(), this.plan.targetType(), e.getClass());
+                throw e;
+            }
+        }
+    }
+
+    private record IdentityPlan(Type sourceType, Type targetType) implements ConversionPlan<Object, Object> {
+
+        @Override
+        public @NotNull Object convert(@NotNull final Object source) {
+            return source;
+        }
+
+        @Override
+        public boolean isIdentity() {
+            return true;
+        }
+    }
+
     private static final class NoOpConverter implements ConditionalConverter<Object, Object> {
 
         private NoOpConverter() {
@@ -205,6 +873,11 @@ private NoOpConverter() {
             return source;
         }
 
+        @Override
+        public @NotNull Object tryConvert(@NotNull final Object source, @NotNull final Type sourceType, @NotNull final Type targetType) {
+            return source;
+        }
+
         @Override
         public boolean matches(@NotNull final Type sourceType, @NotNull final Type targetType) {
             return true;
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core;
+
+import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.exception.ConversionFailedException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+
+@SuppressWarnings("MissingJavaDocType")
+public interface ConversionPlan<T, U> {
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    @NotNull Type sourceType();
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    @NotNull Type targetType();
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    @NotNull U convert(@NotNull T source) throws ConversionException;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    default @Nullable U tryConvert(@NotNull final T source) {
+        try {
+            return this.convert(source);
+        } catch (final ConversionException ignored) {
+            return null;
+        }
+    }
+
+    // The results of other targets are widened like primitive values, e.g. a plan to Short serves convertToInt as well
+    @SuppressWarnings("MissingJavaDocMethod")
+    default int convertToInt(@NotNull final T source) throws ConversionException {
+        final U result = this.convert(source);
+        if (result instanceof Integer || result instanceof Short || result instanceof Byte) {
+            return ((Number) result).intValue();
+        } else if (result instanceof Character character) {
+            return character;
+        }
+        throw new ConversionFailedException(this.sourceType(), int.class);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    default long convertToLong(@NotNull final T source) throws ConversionException {
+        final U result = this.convert(source);
+        if (result instanceof Long || result instanceof Integer || result instanceof Short || result instanceof Byte) {
+            return ((Number) result).longValue();
+        } else if (result instanceof Character character) {
+            return character;
+        }
+        throw new ConversionFailedException(this.sourceType(), long.class);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    default double convertToDouble(@NotNull final T source) throws ConversionException {
+        final U result = this.convert(source);
+        if (result instanceof Double || result instanceof Float || result instanceof Long || result instanceof Integer || result instanceof Short
+            || result instanceof Byte
+        ) {
+            return ((Number) result).doubleValue();
+        } else if (result instanceof Character character) {
+            return character;
+        }
+        throw new ConversionFailedException(this.sourceType(), double.class);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    default boolean convertToBoolean(@NotNull final T source) throws ConversionException {
+        if (this.convert(source) instanceof Boolean result) {
+            return result;
+        }
+        throw new ConversionFailedException(this.sourceType(), boolean.class);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    default boolean isIdentity() {
+        return false;
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core;
+
+import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.exception.ConversionFailedException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+
+@SuppressWarnings("MissingJavaDocType")
+public final class ConversionResult<T> {
+
+    private final @Nullable T value;
+    private final @Nullable Type sourceType;
+    private final @Nullable Type targetType;
+    private final @Nullable ConversionException failure;
+    private final boolean writableStackTrace;
+
+    private ConversionResult(@Nullable final T value, @Nullable final Type sourceType, @Nullable final Type targetType,
+        @Nullable final ConversionException failure, final boolean writableStackTrace
+    ) {
+        this.value = value;
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.failure = failure;
+        this.writableStackTrace = writableStackTrace;
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public static <T> @NotNull ConversionResult<T> success(@NotNull final T value) {
+        return new ConversionResult<>(value, null, null, null, false);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public static <T> @NotNull ConversionResult<T> failure(@NotNull final Type sourceType, @NotNull final Type targetType) {
+        return failure(sourceType, targetType, true);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public static <T> @NotNull ConversionResult<T> failure(@NotNull final Type sourceType, @NotNull final Type targetType,
+        final boolean writableStackTrace
+    ) {
+        return new ConversionResult<>(null, sourceType, targetType, null, writableStackTrace);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public static <T> @NotNull ConversionResult<T> failure(@NotNull final ConversionException failure) {
+        return new ConversionResult<>(null, null, null, failure, false);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public boolean isSuccess() {
+        return this.value != null;
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public @Nullable T value() {
+        return this.value;
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public T orElse(final T other) {
+        return this.value != null ? this.value : other;
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public @NotNull T orElseThrow() throws ConversionException {
+        if (this.value != null) {
+            return this.value;
+        }
+
+        // the exception is only created when somebody actually asks for it
+        if (this.failure != null) {
+            throw this.failure;
+        }
+        throw new ConversionFailedException(this.sourceType, this.targetType, null, this.writableStackTrace);
+    }
+}
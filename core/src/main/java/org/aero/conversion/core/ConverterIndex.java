@@ -0,0 +1,250 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import org.aero.conversion.core.converter.ConditionalConverter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+final class ConverterIndex {
+
+    static final ConverterIndex EMPTY = new ConverterIndex(new Candidate[0], Map.of(), new Candidate[0]);
+
+    private static final ClassValue<Class<?>[]> HIERARCHY = new ClassValue<>() {
+        @Override
+        protected Class<?>[] computeValue(final Class<?> type) {
+            return hierarchy(type);
+        }
+    };
+
+    // A subtype has more supertypes than any of its supertypes, so a deeper source or target is the more specific one.
+    // On equal specificity the later registration wins, which lets users replace the default converters
+    private static final Comparator<Candidate> PRECEDENCE = Comparator.comparingInt(Candidate::sourceDepth).reversed()
+        .thenComparing(Comparator.comparingInt(Candidate::targetDepth).reversed())
+        .thenComparing(Comparator.comparingInt(Candidate::order).reversed());
+
+    private final Candidate[] candidates;
+    private final Map<Class<?>, Candidate[]> byTarget;
+    private final Candidate[] unbound;
+
+    private ConverterIndex(final Candidate[] candidates, final Map<Class<?>, Candidate[]> byTarget, final Candidate[] unbound) {
+        this.candidates = candidates;
+        this.byTarget = byTarget;
+        this.unbound = unbound;
+    }
+
+    int version() {
+        return this.candidates.length;
+    }
+
+    @NotNull ConverterIndex with(@NotNull final ConditionalConverter<Object, Object> converter, @NotNull final Scope scope) {
+        final Candidate candidate = new Candidate(this.candidates.length, converter, null, null, 0, 0, scope);
+        return new ConverterIndex(append(this.candidates, candidate), this.byTarget, prepend(candidate, this.unbound));
+    }
+
+    @NotNull ConverterIndex with(@NotNull final ConditionalConverter<Object, Object> converter, @NotNull final Class<?> sourceType,
+        @NotNull final Class<?> targetType
+    ) {
+        final Candidate candidate = new Candidate(this.candidates.length, converter, sourceType, targetType, depth(sourceType), depth(targetType),
+            null);
+
+        // Buckets are kept sorted by precedence, so lookups only merge them
+        final Map<Class<?>, Candidate[]> byTarget = new HashMap<>(this.byTarget);
+        byTarget.merge(targetType, new Candidate[]{candidate}, (bucket, added) -> insert(bucket, candidate));
+        return new ConverterIndex(append(this.candidates, candidate), byTarget, this.unbound);
+    }
+
+    @NotNull Match find(@NotNull final Type sourceType, @NotNull final Type targetType) {
+        final Class<?> erasedSourceType = GenericTypeReflector.erase(sourceType);
+        final Class<?> erasedTargetType = GenericTypeReflector.erase(targetType);
+
+        // Unbound converters see the full generic types and are asked first, latest registration first.
+        // They may decide based on other registrations, e.g. the element types of a collection, which makes the lookups in their scope opaque
+        boolean opaque = false;
+        for (final Candidate candidate : this.unbound) {
+            if (candidate.converter().matches(sourceType, targetType)) {
+                return new Match(candidate.converter(), true);
+            }
+            opaque |= candidate.acceptsSource(erasedSourceType) && candidate.acceptsTarget(erasedTargetType);
+        }
+
+        final Class<?>[] hierarchy = HIERARCHY.get(erasedTargetType);
+        final Candidate[][] buckets = new Candidate[hierarchy.length][];
+        for (int i = 0; i < hierarchy.length; i++) {
+            buckets[i] = this.byTarget.get(hierarchy[i]);
+        }
+
+        // merge the sorted buckets of all target supertypes
+        final int[] positions = new int[buckets.length];
+        while (true) {
+            Candidate next = null;
+            int nextBucket = -1;
+            for (int i = 0; i < buckets.length; i++) {
+                final Candidate[] bucket = buckets[i];
+                if (bucket == null) {
+                    continue;
+                }
+
+                while (positions[i] < bucket.length && !bucket[positions[i]].acceptsSource(erasedSourceType)) {
+                    positions[i]++;
+                }
+                if (positions[i] < bucket.length && (next == null || PRECEDENCE.compare(bucket[positions[i]], next) < 0)) {
+                    next = bucket[positions[i]];
+                    nextBucket = i;
+                }
+            }
+
+            if (next == null) {
+                return new Match(null, opaque);
+            }
+
+            positions[nextBucket]++;
+            if (next.converter().matches(sourceType, targetType)) {
+                return new Match(next.converter(), opaque);
+            }
+        }
+    }
+
+    boolean affects(final int sinceVersion, @NotNull final Type sourceType, @NotNull final Type targetType) {
+        if (sinceVersion >= this.candidates.length) {
+            return false;
+        }
+
+        final Class<?> erasedSourceType = GenericTypeReflector.erase(sourceType);
+        final Class<?> erasedTargetType = GenericTypeReflector.erase(targetType);
+        for (int i = sinceVersion; i < this.candidates.length; i++) {
+            final Candidate candidate = this.candidates[i];
+            if (candidate.acceptsSource(erasedSourceType) && candidate.acceptsTarget(erasedTargetType)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Candidate[] append(final Candidate[] candidates, final Candidate[] additional) {
+        final Candidate[] merged = Arrays.copyOf(candidates, candidates.length + additional.length);
+        System.arraycopy(additional, 0, merged, candidates.length, additional.length);
+        return merged;
+    }
+
+    private static Candidate[] append(final Candidate[] candidates, final Candidate candidate) {
+        return append(candidates, new Candidate[]{candidate});
+    }
+
+    private static Candidate[] prepend(final Candidate candidate, final Candidate[] candidates) {
+        return append(new Candidate[]{candidate}, candidates);
+    }
+
+    private static Candidate[] insert(final Candidate[] bucket, final Candidate candidate) {
+        int index = 0;
+        while (index < bucket.length && PRECEDENCE.compare(bucket[index], candidate) < 0) {
+            index++;
+        }
+
+        final Candidate[] inserted = new Candidate[bucket.length + 1];
+        System.arraycopy(bucket, 0, inserted, 0, index);
+        inserted[index] = candidate;
+        System.arraycopy(bucket, index, inserted, index + 1, bucket.length - index);
+        return inserted;
+    }
+
+    private static int depth(@Nullable final Class<?> type) {
+        return type == null ? 0 : HIERARCHY.get(type).length;
+    }
+
+    private static Class<?>[] hierarchy(final Class<?> type) {
+        final Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        hierarchy.add(type);
+        // Arrays are covariant, X[] is assignable to the array of every supertype of X
+        if (type.isArray() && !type.getComponentType().isPrimitive()) {
+            for (final Class<?> componentType : HIERARCHY.get(type.getComponentType())) {
+                hierarchy.add(componentType.arrayType());
+            }
+        }
+
+        final Deque<Class<?>> queue = new ArrayDeque<>(Arrays.asList(type.getInterfaces()));
+        if (type.getSuperclass() != null) {
+            queue.addFirst(type.getSuperclass());
+        }
+
+        while (!queue.isEmpty()) {
+            final Class<?> current = queue.poll();
+            if (!hierarchy.add(current)) {
+                continue;
+            }
+
+            if (current.getSuperclass() != null) {
+                queue.add(current.getSuperclass());
+            }
+            queue.addAll(Arrays.asList(current.getInterfaces()));
+        }
+
+        // Interfaces and arrays are assignable to Object as well
+        if (!type.isPrimitive()) {
+            hierarchy.add(Object.class);
+        }
+
+        return hierarchy.toArray(new Class<?>[0]);
+    }
+
+    record Match(@Nullable ConditionalConverter<Object, Object> converter, boolean opaque) {
+
+    }
+
+    // The erased types an unbound converter can handle at all, lookups outside of it can not be changed by the converter
+    record Scope(Predicate<Class<?>> sources, Predicate<Class<?>> targets) {
+
+        static final Scope ANY = new Scope(type -> true, type -> true);
+        static final Predicate<Class<?>> ARRAYS = Class::isArray;
+
+        static @NotNull Predicate<Class<?>> subtypesOf(@NotNull final Class<?> type) {
+            return type::isAssignableFrom;
+        }
+    }
+
+    private record Candidate(int order, ConditionalConverter<Object, Object> converter, @Nullable Class<?> sourceType,
+        @Nullable Class<?> targetType, int sourceDepth, int targetDepth, @Nullable Scope scope
+    ) {
+
+        private boolean acceptsSource(final Class<?> erasedSourceType) {
+            if (this.scope != null) {
+                return this.scope.sources().test(erasedSourceType);
+            }
+            return this.sourceType.isAssignableFrom(erasedSourceType);
+        }
+
+        private boolean acceptsTarget(final Class<?> erasedTargetType) {
+            if (this.scope != null) {
+                return this.scope.targets().test(erasedTargetType);
+            }
+            return this.targetType.isAssignableFrom(erasedTargetType);
+        }
+    }
+}
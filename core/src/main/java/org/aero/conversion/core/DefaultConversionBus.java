@@ -16,7 +16,11 @@
 
 package org.aero.conversion.core;
 
+import org.aero.conversion.core.ConverterIndex.Scope;
+import org.aero.conversion.core.converter.ArrayToArrayConverter;
+import org.aero.conversion.core.converter.ArrayToCollectionConverter;
 import org.aero.conversion.core.converter.CharacterToNumberFactory;
+import org.aero.conversion.core.converter.CollectionToArrayConverter;
 import org.aero.conversion.core.converter.CollectionToCollectionConverter;
 import org.aero.conversion.core.converter.EnumToIntegerConverter;
 import org.aero.conversion.core.converter.EnumToStringConverter;
@@ -33,36 +37,46 @@
 import org.aero.conversion.core.converter.StringToUuidConverter;
 
 import java.nio.charset.Charset;
+import java.util.Collection;
 import java.util.Currency;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 non-sealed class DefaultConversionBus extends ConversionBusImpl {
 
+    private static final Predicate<Class<?>> COLLECTIONS = Scope.subtypesOf(Collection.class);
+
     DefaultConversionBus() {
+        this(new BuilderImpl());
+    }
+
+    DefaultConversionBus(final BuilderImpl builder) {
+        super(builder);
         this.register();
     }
 
     protected void register() {
         // -> Number
-        this.register(String.class, Number.class, new StringToNumberConverterFactory());
+        this.register(String.class, Number.class, new StringToNumberConverterFactory(this.lightweightExceptions));
         this.register(Character.class, Number.class, new CharacterToNumberFactory(this));
-        this.register(Number.class, Number.class, new NumberToNumberConverterFactory());
+        this.register(Number.class, Number.class, new NumberToNumberConverterFactory(this.lightweightExceptions));
         // -> Integer
         this.register(Enum.class, Integer.class, new EnumToIntegerConverter());
         // -> Boolean
-        this.register(String.class, Boolean.class, new StringToBooleanConverter());
+        this.register(String.class, Boolean.class, new StringToBooleanConverter(this.lightweightExceptions, this.trueTokens, this.falseTokens));
         // -> Character
-        this.register(String.class, Character.class, new StringToCharacterConverter());
+        this.register(String.class, Character.class, new StringToCharacterConverter(this.lightweightExceptions));
         this.register(Number.class, Character.class, new NumberToCharacterConverter());
         // -> Charset
-        this.register(String.class, Charset.class, new StringToCharsetConverter());
+        this.register(String.class, Charset.class, new StringToCharsetConverter(this.lightweightExceptions));
         // -> Currency
-        this.register(String.class, Currency.class, new StringToCurrencyConverter());
+        this.register(String.class, Currency.class, new StringToCurrencyConverter(this.lightweightExceptions));
         // -> UUID
-        this.register(String.class, UUID.class, new StringToUuidConverter());
+        this.register(String.class, UUID.class, new StringToUuidConverter(this.lightweightExceptions));
         // -> Enum
-        this.register(String.class, Enum.class, new StringToEnumConverterFactory());
+        this.register(String.class, Enum.class, new StringToEnumConverterFactory(this.lightweightExceptions, this.caseInsensitiveEnums));
         // -> String
         this.register(Number.class, String.class, new ObjectToStringConverter());
         this.register(Character.class, String.class, new ObjectToStringConverter());
@@ -73,8 +87,13 @@ protected void register() {
         this.register(Currency.class, String.class, new ObjectToStringConverter());
         this.register(UUID.class, String.class, new ObjectToStringConverter());
         // -> Collection
-        this.register(new CollectionToCollectionConverter(this));
+        this.register(new CollectionToCollectionConverter(this, this.parallelConversion, this.lazyViews), new Scope(COLLECTIONS, COLLECTIONS));
+        this.register(new ArrayToCollectionConverter(this, this.parallelConversion), new Scope(Scope.ARRAYS, COLLECTIONS));
+        // -> Array
+        this.register(new ArrayToArrayConverter(this, this.parallelConversion, this.lightweightExceptions), new Scope(Scope.ARRAYS, Scope.ARRAYS));
+        this.register(new CollectionToArrayConverter(this, this.parallelConversion, this.lightweightExceptions),
+            new Scope(COLLECTIONS, Scope.ARRAYS));
         // -> Map
-        this.register(new MapToMapConverter(this));
+        this.register(new MapToMapConverter(this, this.lazyViews), new Scope(Scope.subtypesOf(Map.class), Scope.subtypesOf(Map.class)));
     }
 }
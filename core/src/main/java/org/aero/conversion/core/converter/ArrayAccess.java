@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core.converter;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import org.aero.conversion.core.ConversionPlan;
+import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.exception.NullElementException;
+import org.aero.conversion.core.util.ParallelConversion;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class ArrayAccess {
+
+    private ArrayAccess() {
+        throw new UnsupportedOperationException();
+    }
+
+    static @Nullable Type componentType(final Type type) {
+        return GenericTypeReflector.getArrayComponentType(type);
+    }
+
+    // raw collections hold elements of any type
+    static @Nullable Type elementType(final Type type) {
+        if (!Collection.class.isAssignableFrom(GenericTypeReflector.erase(type))) {
+            return null;
+        }
+
+        if (type instanceof ParameterizedType parameterizedType) {
+            final Type[] typeArgs = parameterizedType.getActualTypeArguments();
+            return typeArgs.length == 1 ? typeArgs[0] : null;
+        }
+        return type instanceof Class<?> ? Object.class : null;
+    }
+
+    static @Nullable Object get(final Object array, final int index) {
+        if (array instanceof Object[] objects) {
+            return objects[index];
+        } else if (array instanceof int[] ints) {
+            return ints[index];
+        } else if (array instanceof long[] longs) {
+            return longs[index];
+        } else if (array instanceof double[] doubles) {
+            return doubles[index];
+        } else if (array instanceof boolean[] booleans) {
+            return booleans[index];
+        }
+        return Array.get(array, index);
+    }
+
+    // Converts every element of source into the presized target, returns whether any element of an object array changed.
+    // Object array targets keep null elements, primitive ones reject them
+    static boolean convert(final ParallelConversion parallelConversion, final Object source, final Object target,
+        final ConversionPlan<Object, Object> elementPlan, final boolean lightweightExceptions
+    ) throws ConversionException {
+        final int length = Array.getLength(target);
+        if (elementPlan.isIdentity() && source instanceof Object[] && target instanceof Object[]) {
+            System.arraycopy(source, 0, target, 0, length);
+            return false;
+        }
+
+        if (!parallelConversion.isParallel(length)) {
+            return convert(source, target, 0, length, elementPlan, lightweightExceptions);
+        }
+
+        final AtomicBoolean changed = new AtomicBoolean();
+        parallelConversion.forEachRange(length, (from, to) -> {
+            if (convert(source, target, from, to, elementPlan, lightweightExceptions)) {
+                changed.set(true);
+            }
+        });
+        return changed.get();
+    }
+
+    private static boolean convert(final Object source, final Object target, final int from, final int to,
+        final ConversionPlan<Object, Object> elementPlan, final boolean lightweightExceptions
+    ) throws ConversionException {
+        if (target instanceof Object[] objects) {
+            boolean changed = false;
+            for (int i = from; i < to; i++) {
+                final Object element = get(source, i);
+                final Object converted = element == null ? null : elementPlan.convert(element);
+                objects[i] = converted;
+                changed |= converted != element;
+            }
+            return changed;
+        } else if (target instanceof int[] ints) {
+            for (int i = from; i < to; i++) {
+                ints[i] = elementPlan.convertToInt(element(source, i, int.class, lightweightExceptions));
+            }
+        } else if (target instanceof long[] longs) {
+            for (int i = from; i < to; i++) {
+                longs[i] = elementPlan.convertToLong(element(source, i, long.class, lightweightExceptions));
+            }
+        } else if (target instanceof double[] doubles) {
+            for (int i = from; i < to; i++) {
+                doubles[i] = elementPlan.convertToDouble(element(source, i, double.class, lightweightExceptions));
+            }
+        } else if (target instanceof boolean[] booleans) {
+            for (int i = from; i < to; i++) {
+                booleans[i] = elementPlan.convertToBoolean(element(source, i, boolean.class, lightweightExceptions));
+            }
+        } else {
+            final Class<?> componentType = target.getClass().getComponentType();
+            for (int i = from; i < to; i++) {
+                Array.set(target, i, elementPlan.convert(element(source, i, componentType, lightweightExceptions)));
+            }
+        }
+        return true;
+    }
+
+    private static Object element(final Object source, final int index, final Class<?> targetType, final boolean lightweightExceptions)
+        throws ConversionException {
+        final Object element = get(source, index);
+        if (element == null) {
+            throw new NullElementException(targetType, index, !lightweightExceptions);
+        }
+        return element;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core.converter;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import org.aero.conversion.core.ConversionBus;
+import org.aero.conversion.core.ConversionPlan;
+import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.util.ParallelConversion;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+@SuppressWarnings({"ClassCanBeRecord", "MissingJavaDocType"})
+public class ArrayToCollectionConverter implements ConditionalConverter<Object, Collection<Object>>,
+    PlanningConverter<Object, Collection<Object>> {
+
+    private final ConversionBus conversionBus;
+    private final ParallelConversion parallelConversion;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public ArrayToCollectionConverter(final ConversionBus conversionBus) {
+        this(conversionBus, ParallelConversion.SEQUENTIAL);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public ArrayToCollectionConverter(final ConversionBus conversionBus, final ParallelConversion parallelConversion) {
+        this.conversionBus = conversionBus;
+        this.parallelConversion = parallelConversion;
+    }
+
+    @Override
+    public boolean matches(@NotNull final Type sourceType, @NotNull final Type targetType) {
+        final Type componentType = ArrayAccess.componentType(sourceType);
+        final Type elementType = ArrayAccess.elementType(targetType);
+
+        if (componentType == null || elementType == null) {
+            return false;
+        }
+
+        return RuntimeTypePlan.canConvert(this.conversionBus, componentType, elementType);
+    }
+
+    @Override
+    public @NotNull Collection<Object> convert(@NotNull final Object source, @NotNull final Type sourceType, @NotNull final Type targetType)
+        throws ConversionException {
+        return this.plan(sourceType, targetType).convert(source);
+    }
+
+    @Override
+    public @NotNull ConversionPlan<Object, Collection<Object>> plan(@NotNull final Type sourceType, @NotNull final Type targetType)
+        throws ConversionException {
+        final ConversionPlan<Object, Object> elementPlan = RuntimeTypePlan.plan(this.conversionBus, ArrayAccess.componentType(sourceType),
+            ArrayAccess.elementType(targetType));
+        return new CollectionPlan(sourceType, targetType, elementPlan, this.parallelConversion);
+    }
+
+    private static final class CollectionPlan implements ConversionPlan<Object, Collection<Object>> {
+
+        private final Type sourceType;
+        private final Type targetType;
+        private final Class<?> erasedTargetType;
+        private final Class<?> erasedTargetElementType;
+        private final ConversionPlan<Object, Object> elementPlan;
+        private final ParallelConversion parallelConversion;
+
+        private CollectionPlan(final Type sourceType, final Type targetType, final ConversionPlan<Object, Object> elementPlan,
+            final ParallelConversion parallelConversion
+        ) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            // arrays are ordered and may contain duplicates, so a plain Collection target becomes a list
+            final Class<?> erasedTargetType = GenericTypeReflector.erase(targetType);
+            this.erasedTargetType = Collection.class == erasedTargetType ? List.class : erasedTargetType;
+            this.erasedTargetElementType = GenericTypeReflector.erase(elementPlan.targetType());
+            this.elementPlan = elementPlan;
+            this.parallelConversion = parallelConversion;
+        }
+
+        @Override
+        public @NotNull Type sourceType() {
+            return this.sourceType;
+        }
+
+        @Override
+        public @NotNull Type targetType() {
+            return this.targetType;
+        }
+
+        @Override
+        public @NotNull Collection<Object> convert(@NotNull final Object source) throws ConversionException {
+            final int length = Array.getLength(source);
+            final Collection<Object> target = CollectionToCollectionConverter.createCollection(this.erasedTargetType,
+                this.erasedTargetElementType, length);
+
+            if (this.parallelConversion.isParallel(length)) {
+                final Object[] elements = new Object[length];
+                // the Object[] of elements keeps null elements, so nothing is thrown for them
+                ArrayAccess.convert(this.parallelConversion, source, elements, this.elementPlan, true);
+                target.addAll(Arrays.asList(elements));
+                return target;
+            }
+
+            for (int i = 0; i < length; i++) {
+                final Object element = ArrayAccess.get(source, i);
+                target.add(element == null ? null : this.elementPlan.convert(element));
+            }
+            return target;
+        }
+    }
+}
@@ -38,7 +38,8 @@ public CharacterToNumberFactory(final ConversionBus conversionBus) {
     }
 
     @SuppressWarnings("ClassCanBeRecord")
-    private static final class CharacterToNumber<T extends Number> implements Converter<Character, T> {
+    private static final class CharacterToNumber<T extends Number>
+        implements Converter<Character, T>, ToIntConverter<Character>, ToLongConverter<Character>, ToDoubleConverter<Character> {
 
         private final ConversionBus conversionBus;
         private final Class<T> targetType;
@@ -53,6 +54,21 @@ private CharacterToNumber(final ConversionBus conversionBus, final Class<T> targ
             throws ConversionException {
             return this.conversionBus.convert((short) source.charValue(), this.targetType);
         }
+
+        @Override
+        public int convertToInt(@NotNull final Character source, @NotNull final Type sourceType) {
+            return (short) source.charValue();
+        }
+
+        @Override
+        public long convertToLong(@NotNull final Character source, @NotNull final Type sourceType) {
+            return (short) source.charValue();
+        }
+
+        @Override
+        public double convertToDouble(@NotNull final Character source, @NotNull final Type sourceType) {
+            return (short) source.charValue();
+        }
     }
 
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core.converter;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import org.aero.conversion.core.ConversionBus;
+import org.aero.conversion.core.ConversionPlan;
+import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.util.ParallelConversion;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+@SuppressWarnings({"ClassCanBeRecord", "MissingJavaDocType"})
+public class CollectionToArrayConverter implements ConditionalConverter<Collection<Object>, Object>,
+    PlanningConverter<Collection<Object>, Object> {
+
+    private final ConversionBus conversionBus;
+    private final ParallelConversion parallelConversion;
+    private final boolean lightweightExceptions;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public CollectionToArrayConverter(final ConversionBus conversionBus) {
+        this(conversionBus, ParallelConversion.SEQUENTIAL);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public CollectionToArrayConverter(final ConversionBus conversionBus, final ParallelConversion parallelConversion) {
+        this(conversionBus, parallelConversion, false);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public CollectionToArrayConverter(final ConversionBus conversionBus, final ParallelConversion parallelConversion,
+        final boolean lightweightExceptions
+    ) {
+        this.conversionBus = conversionBus;
+        this.parallelConversion = parallelConversion;
+        this.lightweightExceptions = lightweightExceptions;
+    }
+
+    @Override
+    public boolean matches(@NotNull final Type sourceType, @NotNull final Type targetType) {
+        final Type elementType = ArrayAccess.elementType(sourceType);
+        final Type componentType = ArrayAccess.componentType(targetType);
+
+        if (elementType == null || componentType == null) {
+            return false;
+        }
+
+        return RuntimeTypePlan.canConvert(this.conversionBus, elementType, componentType);
+    }
+
+    @Override
+    public @NotNull Object convert(@NotNull final Collection<Object> source, @NotNull final Type sourceType, @NotNull final Type targetType)
+        throws ConversionException {
+        return this.plan(sourceType, targetType).convert(source);
+    }
+
+    @Override
+    public @NotNull ConversionPlan<Collection<Object>, Object> plan(@NotNull final Type sourceType, @NotNull final Type targetType)
+        throws ConversionException {
+        final ConversionPlan<Object, Object> elementPlan = RuntimeTypePlan.plan(this.conversionBus, ArrayAccess.elementType(sourceType),
+            ArrayAccess.componentType(targetType));
+        return new ArrayPlan(sourceType, targetType, elementPlan, this.parallelConversion, this.lightweightExceptions);
+    }
+
+    private static final class ArrayPlan implements ConversionPlan<Collection<Object>, Object> {
+
+        private final Type sourceType;
+        private final Type targetType;
+        private final Class<?> erasedTargetComponentType;
+        private final ConversionPlan<Object, Object> elementPlan;
+        private final ParallelConversion parallelConversion;
+        private final boolean lightweightExceptions;
+
+        private ArrayPlan(final Type sourceType, final Type targetType, final ConversionPlan<Object, Object> elementPlan,
+            final ParallelConversion parallelConversion, final boolean lightweightExceptions
+        ) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.erasedTargetComponentType = GenericTypeReflector.erase(targetType).getComponentType();
+            this.elementPlan = elementPlan;
+            this.parallelConversion = parallelConversion;
+            this.lightweightExceptions = lightweightExceptions;
+        }
+
+        @Override
+        public @NotNull Type sourceType() {
+            return this.sourceType;
+        }
+
+        @Override
+        public @NotNull Type targetType() {
+            return this.targetType;
+        }
+
+        @Override
+        public @NotNull Object convert(@NotNull final Collection<Object> source) throws ConversionException {
+            // a snapshot of the elements keeps the size stable while converting
+            final Object[] elements = source.toArray();
+            final Object target = Array.newInstance(this.erasedTargetComponentType, elements.length);
+            ArrayAccess.convert(this.parallelConversion, elements, target, this.elementPlan, this.lightweightExceptions);
+            return target;
+        }
+    }
+}
@@ -18,7 +18,10 @@
 
 import io.leangen.geantyref.GenericTypeReflector;
 import org.aero.conversion.core.ConversionBus;
+import org.aero.conversion.core.ConversionBus.LazyViews;
+import org.aero.conversion.core.ConversionPlan;
 import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.util.ParallelConversion;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.ParameterizedType;
@@ -29,19 +32,38 @@
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.NavigableSet;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
 @SuppressWarnings({"ClassCanBeRecord", "MissingJavaDocType"})
-public class CollectionToCollectionConverter implements ConditionalConverter<Collection<Object>, Collection<Object>> {
+public class CollectionToCollectionConverter implements ConditionalConverter<Collection<Object>, Collection<Object>>,
+    PlanningConverter<Collection<Object>, Collection<Object>> {
 
     private final ConversionBus conversionBus;
+    private final ParallelConversion parallelConversion;
+    private final LazyViews lazyViews;
 
     @SuppressWarnings("MissingJavaDocMethod")
     public CollectionToCollectionConverter(final ConversionBus conversionBus) {
+        this(conversionBus, ParallelConversion.SEQUENTIAL);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public CollectionToCollectionConverter(final ConversionBus conversionBus, final ParallelConversion parallelConversion) {
+        this(conversionBus, parallelConversion, LazyViews.DISABLED);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public CollectionToCollectionConverter(final ConversionBus conversionBus, final ParallelConversion parallelConversion,
+        final LazyViews lazyViews
+    ) {
         this.conversionBus = conversionBus;
+        this.parallelConversion = parallelConversion;
+        this.lazyViews = lazyViews;
     }
 
     @Override
@@ -60,28 +82,16 @@ public boolean matches(@NotNull final Type sourceType, @NotNull final Type targe
     public @NotNull Collection<Object> convert(@NotNull final Collection<Object> source, @NotNull final Type sourceType,
         @NotNull final Type targetType
     ) throws ConversionException {
-        final Class<?> erasedTargetType = GenericTypeReflector.erase(targetType);
-
-        boolean copyRequired = !erasedTargetType.isInstance(source);
-        if (!copyRequired && source.isEmpty()) {
-            return source;
-        }
-
-        final Type sourceElementType = this.elementType(sourceType);
-        final Type targetElementType = this.elementType(targetType);
-
-        final Collection<Object> target = this.createCollection(erasedTargetType,
-            GenericTypeReflector.erase(targetElementType), source.size());
-
-        for (final Object sourceElement : source) {
-            final Object targetElement = this.conversionBus.convert(sourceElement, sourceElementType, targetElementType);
-            target.add(targetElement);
-            if (sourceElement != targetElement) {
-                copyRequired = true;
-            }
-        }
+        // Resolve the element conversion once instead of looking it up for every element
+        return this.plan(sourceType, targetType).convert(source);
+    }
 
-        return (copyRequired ? target : source);
+    @Override
+    public @NotNull ConversionPlan<Collection<Object>, Collection<Object>> plan(@NotNull final Type sourceType,
+        @NotNull final Type targetType
+    ) throws ConversionException {
+        final ConversionPlan<Object, Object> elementPlan = this.conversionBus.plan(this.elementType(sourceType), this.elementType(targetType));
+        return new CollectionPlan(sourceType, targetType, elementPlan, this.parallelConversion, this.lazyViews);
     }
 
     private Type elementType(final Type type) {
@@ -98,7 +108,7 @@ private Type elementType(final Type type) {
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private @NotNull Collection<Object> createCollection(final Class<?> collectionType, final Class<?> elementType, final int capacity) {
+    static @NotNull Collection<Object> createCollection(final Class<?> collectionType, final Class<?> elementType, final int capacity) {
         if (LinkedHashSet.class == collectionType || HashSet.class == collectionType
             || Set.class == collectionType || Collection.class == collectionType
         ) {
@@ -117,6 +127,92 @@ private Type elementType(final Type type) {
             return EnumSet.noneOf(elementType.<Enum>asSubclass(Enum.class));
         }
 
-        return new ArrayList<>();
+        return new ArrayList<>(capacity);
+    }
+
+    private static final class CollectionPlan implements ConversionPlan<Collection<Object>, Collection<Object>> {
+
+        private final Type sourceType;
+        private final Type targetType;
+        private final Class<?> erasedTargetType;
+        private final Class<?> erasedTargetElementType;
+        private final ConversionPlan<Object, Object> elementPlan;
+        private final ParallelConversion parallelConversion;
+        private final LazyViews lazyViews;
+
+        private CollectionPlan(final Type sourceType, final Type targetType, final ConversionPlan<Object, Object> elementPlan,
+            final ParallelConversion parallelConversion, final LazyViews lazyViews
+        ) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.erasedTargetType = GenericTypeReflector.erase(targetType);
+            this.erasedTargetElementType = GenericTypeReflector.erase(elementPlan.targetType());
+            this.elementPlan = elementPlan;
+            this.parallelConversion = parallelConversion;
+            this.lazyViews = lazyViews;
+        }
+
+        @Override
+        public @NotNull Type sourceType() {
+            return this.sourceType;
+        }
+
+        @Override
+        public @NotNull Type targetType() {
+            return this.targetType;
+        }
+
+        @Override
+        public @NotNull Collection<Object> convert(@NotNull final Collection<Object> source) throws ConversionException {
+            boolean copyRequired = !this.erasedTargetType.isInstance(source);
+            if (!copyRequired && (source.isEmpty() || this.elementPlan.isIdentity())) {
+                return source;
+            }
+
+            // a view can only replace a copy when the target type is satisfied by a list
+            if (this.lazyViews != LazyViews.DISABLED && List.class == this.erasedTargetType && source instanceof List<Object> list
+                && source instanceof RandomAccess && !this.elementPlan.isIdentity()
+            ) {
+                return new LazyList(list, this.elementPlan, this.lazyViews == LazyViews.MEMOIZED);
+            }
+
+            final Collection<Object> target = createCollection(this.erasedTargetType, this.erasedTargetElementType, source.size());
+            if (this.elementPlan.isIdentity()) {
+                target.addAll(source);
+                return target;
+            }
+
+            if (source instanceof List<Object> list && source instanceof RandomAccess && this.parallelConversion.isParallel(list.size())) {
+                return this.convertParallel(list, target, copyRequired);
+            }
+
+            for (final Object sourceElement : source) {
+                final Object targetElement = this.elementPlan.convert(sourceElement);
+                target.add(targetElement);
+                if (sourceElement != targetElement) {
+                    copyRequired = true;
+                }
+            }
+
+            return (copyRequired ? target : source);
+        }
+
+        // elements are converted by index into a buffer, so the target is filled in source order
+        private Collection<Object> convertParallel(final List<Object> source, final Collection<Object> target, final boolean copyRequired)
+            throws ConversionException {
+            final Object[] elements = new Object[source.size()];
+            this.parallelConversion.forEachRange(elements.length, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    elements[i] = this.elementPlan.convert(source.get(i));
+                }
+            });
+
+            boolean changed = copyRequired;
+            for (int i = 0; i < elements.length; i++) {
+                target.add(elements[i]);
+                changed |= elements[i] != source.get(i);
+            }
+            return changed ? target : source;
+        }
     }
 }
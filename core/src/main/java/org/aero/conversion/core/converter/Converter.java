@@ -18,6 +18,7 @@
 
 import org.aero.conversion.core.exception.ConversionException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 
@@ -28,4 +29,13 @@
     @SuppressWarnings("MissingJavaDocMethod")
     @NotNull U convert(@NotNull T source, @NotNull Type sourceType, @NotNull Type targetType) throws ConversionException;
 
+    @SuppressWarnings("MissingJavaDocMethod")
+    default @Nullable U tryConvert(@NotNull final T source, @NotNull final Type sourceType, @NotNull final Type targetType) {
+        try {
+            return this.convert(source, sourceType, targetType);
+        } catch (final ConversionException ignored) {
+            return null;
+        }
+    }
+
 }
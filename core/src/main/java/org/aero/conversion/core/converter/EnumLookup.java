@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core.converter;
+
+import org.aero.conversion.core.annotation.Alias;
+import org.jetbrains.annotations.Nullable;
+
+// Name and alias tables of an enum type, built once per type
+@SuppressWarnings("rawtypes")
+final class EnumLookup {
+
+    private static final ClassValue<EnumLookup> LOOKUPS = new ClassValue<>() {
+        @Override
+        protected EnumLookup computeValue(final Class<?> type) {
+            return new EnumLookup(type.asSubclass(Enum.class));
+        }
+    };
+
+    private final TokenTable<Enum> exact;
+    private final TokenTable<Enum> ignoreCase;
+
+    private EnumLookup(final Class<? extends Enum> enumType) {
+        final Enum[] constants = enumType.getEnumConstants();
+        final String[][] aliases = new String[constants.length][];
+        int keys = constants.length;
+        for (final Enum constant : constants) {
+            aliases[constant.ordinal()] = aliases(enumType, constant);
+            keys += aliases[constant.ordinal()].length;
+        }
+
+        this.exact = new TokenTable<>(keys, false);
+        this.ignoreCase = new TokenTable<>(keys, true);
+        // names are added before any alias, so they take precedence
+        for (final Enum constant : constants) {
+            this.exact.put(constant.name(), constant);
+            this.ignoreCase.put(constant.name(), constant);
+        }
+        for (final Enum constant : constants) {
+            for (final String alias : aliases[constant.ordinal()]) {
+                this.exact.put(alias, constant);
+                this.ignoreCase.put(alias, constant);
+            }
+        }
+    }
+
+    static EnumLookup of(final Class<?> enumType) {
+        return LOOKUPS.get(enumType);
+    }
+
+    @Nullable Enum find(final CharSequence source, final int from, final int to, final boolean ignoreCase) {
+        final Enum constant = this.exact.get(source, from, to);
+        return constant != null || !ignoreCase ? constant : this.ignoreCase.get(source, from, to);
+    }
+
+    private static String[] aliases(final Class<? extends Enum> enumType, final Enum constant) {
+        try {
+            final Alias alias = enumType.getDeclaredField(constant.name()).getAnnotation(Alias.class);
+            return alias == null ? new String[0] : alias.value();
+        } catch (final NoSuchFieldException ignored) {
+            return new String[0];
+        }
+    }
+}
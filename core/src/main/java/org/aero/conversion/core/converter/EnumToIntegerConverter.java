@@ -21,10 +21,15 @@
 import java.lang.reflect.Type;
 
 @SuppressWarnings({"rawtypes", "MissingJavaDocType"}) //TODO: Change
-public class EnumToIntegerConverter implements Converter<Enum, Integer> {
+public class EnumToIntegerConverter implements Converter<Enum, Integer>, ToIntConverter<Enum> {
 
     @Override
     public @NotNull Integer convert(@NotNull final Enum source, @NotNull final Type sourceType, @NotNull final Type targetType) {
         return source.ordinal();
     }
+
+    @Override
+    public int convertToInt(@NotNull final Enum source, @NotNull final Type sourceType) {
+        return source.ordinal();
+    }
 }
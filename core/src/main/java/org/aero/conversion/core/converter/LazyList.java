@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core.converter;
+
+import org.aero.conversion.core.ConversionPlan;
+import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.exception.UncheckedConversionException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Read-only list converting the elements of the source list on access
+final class LazyList extends AbstractList<Object> implements RandomAccess {
+
+    private final List<Object> source;
+    private final ConversionPlan<Object, Object> elementPlan;
+    // converted elements, published safely to other readers, converting an element twice gives an equal result
+    private final @Nullable AtomicReferenceArray<Object> converted;
+
+    LazyList(final List<Object> source, final ConversionPlan<Object, Object> elementPlan, final boolean memoize) {
+        this.source = source;
+        this.elementPlan = elementPlan;
+        this.converted = memoize ? new AtomicReferenceArray<>(source.size()) : null;
+    }
+
+    @Override
+    public Object get(final int index) {
+        final AtomicReferenceArray<Object> converted = this.converted;
+        if (converted != null && index < converted.length()) {
+            final Object result = converted.get(index);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        final Object element = this.source.get(index);
+        if (element == null) {
+            return null;
+        }
+
+        try {
+            final Object result = this.elementPlan.convert(element);
+            if (converted != null && index < converted.length()) {
+                converted.set(index, result);
+            }
+            return result;
+        } catch (final ConversionException e) {
+            throw new UncheckedConversionException(e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.source.size();
+    }
+}
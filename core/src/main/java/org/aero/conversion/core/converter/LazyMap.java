@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core.converter;
+
+import org.aero.conversion.core.ConversionPlan;
+import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.exception.UncheckedConversionException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Read-only map converting the values of the source map on access, the keys are kept as they are
+final class LazyMap extends AbstractMap<Object, Object> {
+
+    private final Map<Object, Object> source;
+    private final ConversionPlan<Object, Object> valuePlan;
+    private final @Nullable Map<Object, Object> converted;
+
+    LazyMap(final Map<Object, Object> source, final ConversionPlan<Object, Object> valuePlan, final boolean memoize) {
+        this.source = source;
+        this.valuePlan = valuePlan;
+        this.converted = memoize ? new ConcurrentHashMap<>() : null;
+    }
+
+    @Override
+    public Object get(final Object key) {
+        final Object value = this.source.get(key);
+        return value == null ? null : this.convert(key, value);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.source.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return this.source.size();
+    }
+
+    @Override
+    public @NotNull Set<Entry<Object, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<Object, Object>> iterator() {
+                final Iterator<Entry<Object, Object>> entries = LazyMap.this.source.entrySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Entry<Object, Object> next() {
+                        final Entry<Object, Object> entry = entries.next();
+                        final Object value = entry.getValue();
+                        return new SimpleImmutableEntry<>(entry.getKey(), value == null ? null : LazyMap.this.convert(entry.getKey(), value));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return LazyMap.this.source.size();
+            }
+        };
+    }
+
+    private Object convert(final Object key, final Object value) {
+        final Map<Object, Object> converted = this.converted;
+        if (converted != null && key != null) {
+            final Object result = converted.get(key);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        try {
+            final Object result = this.valuePlan.convert(value);
+            if (converted != null && key != null) {
+                converted.put(key, result);
+            }
+            return result;
+        } catch (final ConversionException e) {
+            throw new UncheckedConversionException(e);
+        }
+    }
+}
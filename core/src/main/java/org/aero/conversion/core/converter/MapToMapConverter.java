@@ -18,30 +18,39 @@
 
 import io.leangen.geantyref.GenericTypeReflector;
 import org.aero.conversion.core.ConversionBus;
+import org.aero.conversion.core.ConversionBus.LazyViews;
+import org.aero.conversion.core.ConversionPlan;
 import org.aero.conversion.core.exception.ConversionException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.AbstractMap;
-import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
 @SuppressWarnings({"ClassCanBeRecord", "MissingJavaDocType"})
-public class MapToMapConverter implements ConditionalConverter<Map<Object, Object>, Map<Object, Object>> {
+public class MapToMapConverter implements ConditionalConverter<Map<Object, Object>, Map<Object, Object>>,
+    PlanningConverter<Map<Object, Object>, Map<Object, Object>> {
 
     private final ConversionBus conversionBus;
+    private final LazyViews lazyViews;
 
     @SuppressWarnings("MissingJavaDocMethod")
     public MapToMapConverter(final ConversionBus conversionBus) {
+        this(conversionBus, LazyViews.DISABLED);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public MapToMapConverter(final ConversionBus conversionBus, final LazyViews lazyViews) {
         this.conversionBus = conversionBus;
+        this.lazyViews = lazyViews;
     }
 
     @Override
@@ -61,42 +70,19 @@ public boolean matches(@NotNull final Type sourceType, @NotNull final Type targe
     public @NotNull Map<Object, Object> convert(@NotNull final Map<Object, Object> source, @NotNull final Type sourceType,
         @NotNull final Type targetType
     ) throws ConversionException {
-        final Class<?> erasedTargetType = GenericTypeReflector.erase(targetType);
-        boolean copyRequired = !erasedTargetType.isInstance(source);
-
-        if (!copyRequired && source.isEmpty()) {
-            return source;
-        }
+        // Resolve the key and value conversions once instead of looking them up for every entry
+        return this.plan(sourceType, targetType).convert(source);
+    }
 
+    @Override
+    public @NotNull ConversionPlan<Map<Object, Object>, Map<Object, Object>> plan(@NotNull final Type sourceType,
+        @NotNull final Type targetType
+    ) throws ConversionException {
         final Type[] sourceParams = this.elementTypes(sourceType);
         final Type[] targetParams = this.elementTypes(targetType);
-        final List<Map.Entry<Object, Object>> targetEntries = new ArrayList<>(source.size());
-
-        for (final Map.Entry<Object, Object> entry : source.entrySet()) {
-            final Object sourceKey = entry.getKey();
-            final Object sourceValue = entry.getValue();
-
-            final Object targetKey = this.conversionBus.convert(sourceKey, sourceParams[0], targetParams[0]);
-            final Object targetValue = this.conversionBus.convert(targetKey, sourceParams[0], targetParams[1]);
-            targetEntries.add(new AbstractMap.SimpleEntry<>(targetKey, targetValue));
-
-            if (sourceKey != targetKey || sourceValue != targetValue) {
-                copyRequired = true;
-            }
-        }
-        if (!copyRequired) {
-            return source;
-        }
-
-        final Map<Object, Object> targetMap = this.createMap(erasedTargetType,
-            GenericTypeReflector.erase(targetParams[0]), source.size());
-
-        for (final Map.Entry<Object, Object> entry : targetEntries) {
-            targetMap.put(entry.getKey(), entry.getValue());
-        }
-
-        return targetMap;
 
+        return new MapPlan(sourceType, targetType, this.conversionBus.plan(sourceParams[0], targetParams[0]),
+            this.conversionBus.plan(sourceParams[1], targetParams[1]), this.lazyViews);
     }
 
     private @Nullable Type[] elementTypes(final Type type) {
@@ -113,7 +99,7 @@ public boolean matches(@NotNull final Type sourceType, @NotNull final Type targe
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private Map<Object, Object> createMap(final Class<?> mapType, final Class<?> keyType, final int capacity) {
+    private static Map<Object, Object> createMap(final Class<?> mapType, final Class<?> keyType, final int size) {
         if (EnumMap.class == mapType) {
             if (!Enum.class.isAssignableFrom(keyType)) {
                 throw new IllegalArgumentException("Supplied type is not an enum: " + keyType.getName());
@@ -122,10 +108,101 @@ private Map<Object, Object> createMap(final Class<?> mapType, final Class<?> key
             return new EnumMap(keyType.asSubclass(Enum.class));
         }
 
-        if (SortedMap.class == mapType || NavigableMap.class == mapType) {
+        if (SortedMap.class == mapType || NavigableMap.class == mapType || TreeMap.class == mapType) {
             return new TreeMap<>();
         }
 
+        // sized so that all entries fit without rehashing at the default load factor
+        final int capacity = (int) Math.ceil(size / 0.75D);
+        if (HashMap.class == mapType) {
+            return new HashMap<>(capacity);
+        }
         return new LinkedHashMap<>(capacity);
     }
+
+    private static final class MapPlan implements ConversionPlan<Map<Object, Object>, Map<Object, Object>> {
+
+        private final Type sourceType;
+        private final Type targetType;
+        private final Class<?> erasedTargetType;
+        private final Class<?> erasedTargetKeyType;
+        private final ConversionPlan<Object, Object> keyPlan;
+        private final ConversionPlan<Object, Object> valuePlan;
+        private final LazyViews lazyViews;
+
+        private MapPlan(final Type sourceType, final Type targetType, final ConversionPlan<Object, Object> keyPlan,
+            final ConversionPlan<Object, Object> valuePlan, final LazyViews lazyViews
+        ) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.erasedTargetType = GenericTypeReflector.erase(targetType);
+            this.erasedTargetKeyType = GenericTypeReflector.erase(keyPlan.targetType());
+            this.keyPlan = keyPlan;
+            this.valuePlan = valuePlan;
+            this.lazyViews = lazyViews;
+        }
+
+        @Override
+        public @NotNull Type sourceType() {
+            return this.sourceType;
+        }
+
+        @Override
+        public @NotNull Type targetType() {
+            return this.targetType;
+        }
+
+        @Override
+        public @NotNull Map<Object, Object> convert(@NotNull final Map<Object, Object> source) throws ConversionException {
+            final boolean identity = this.keyPlan.isIdentity() && this.valuePlan.isIdentity();
+            final boolean copyRequired = !this.erasedTargetType.isInstance(source);
+            if (!copyRequired && (source.isEmpty() || identity)) {
+                return source;
+            }
+
+            if (identity) {
+                final Map<Object, Object> targetMap = createMap(this.erasedTargetType, this.erasedTargetKeyType, source.size());
+                targetMap.putAll(source);
+                return targetMap;
+            }
+
+            // lookups through a view need the keys unchanged
+            if (this.lazyViews != LazyViews.DISABLED && Map.class == this.erasedTargetType && this.keyPlan.isIdentity()) {
+                return new LazyMap(source, this.valuePlan, this.lazyViews == LazyViews.MEMOIZED);
+            }
+
+            // the target is only materialized once the first changed entry shows up
+            Map<Object, Object> targetMap = copyRequired ? createMap(this.erasedTargetType, this.erasedTargetKeyType, source.size()) : null;
+            int unchanged = 0;
+
+            for (final Map.Entry<Object, Object> entry : source.entrySet()) {
+                final Object sourceKey = entry.getKey();
+                final Object sourceValue = entry.getValue();
+
+                final Object targetKey = this.keyPlan.convert(sourceKey);
+                final Object targetValue = this.valuePlan.convert(sourceValue);
+
+                if (targetMap == null) {
+                    if (sourceKey == targetKey && sourceValue == targetValue) {
+                        unchanged++;
+                        continue;
+                    }
+                    targetMap = this.copyOf(source, unchanged);
+                }
+                targetMap.put(targetKey, targetValue);
+            }
+
+            return targetMap == null ? source : targetMap;
+        }
+
+        private Map<Object, Object> copyOf(final Map<Object, Object> source, final int count) {
+            final Map<Object, Object> targetMap = createMap(this.erasedTargetType, this.erasedTargetKeyType, source.size());
+            final Iterator<Map.Entry<Object, Object>> entries = source.entrySet().iterator();
+            for (int i = 0; i < count; i++) {
+                final Map.Entry<Object, Object> entry = entries.next();
+                targetMap.put(entry.getKey(), entry.getValue());
+            }
+            return targetMap;
+        }
+    }
 }
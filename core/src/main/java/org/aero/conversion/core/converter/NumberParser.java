@@ -0,0 +1,305 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core.converter;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+// Parses numbers on a range of a CharSequence, failures are reported through return values instead of exceptions
+final class NumberParser {
+
+    // parsed longs are negated magnitudes, which are never positive
+    static final long FAILED = 1;
+
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final int MAX_DOUBLE_DIGITS = 15;
+    private static final int MAX_FLOAT_DIGITS = 7;
+
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    private NumberParser() {
+        throw new UnsupportedOperationException();
+    }
+
+    // same semantics as String.trim
+    static int trimStart(final CharSequence source) {
+        int start = 0;
+        while (start < source.length() && source.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    static int trimEnd(final CharSequence source, final int start) {
+        int end = source.length();
+        while (end > start && source.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    static boolean isAscii(final CharSequence source, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (source.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Returns the negated magnitude, as the negative range also covers Long.MIN_VALUE, or FAILED. Callers apply the sign with value
+    static long parseLong(final CharSequence source, final int from, final int to, final long min, final long max) {
+        if (from >= to) {
+            return FAILED;
+        }
+
+        int index = from;
+        final char first = source.charAt(index);
+        final boolean negative = first == '-';
+        if (negative || first == '+') {
+            index++;
+            if (index == to) {
+                return FAILED;
+            }
+        }
+
+        // accumulate negatively, as the negative range is larger than the positive one
+        final long limit = negative ? min : -max;
+        final long multiplicationLimit = limit / 10;
+        long result = 0;
+        for (; index < to; index++) {
+            final int digit = source.charAt(index) - '0';
+            if (digit < 0 || digit > 9 || result < multiplicationLimit) {
+                return FAILED;
+            }
+
+            result *= 10;
+            if (result < limit + digit) {
+                return FAILED;
+            }
+            result -= digit;
+        }
+        return result;
+    }
+
+    static long value(final CharSequence source, final int from, final long negatedMagnitude) {
+        return source.charAt(from) == '-' ? negatedMagnitude : -negatedMagnitude;
+    }
+
+    static @Nullable BigInteger parseBigInteger(final CharSequence source, final int from, final int to) {
+        final int digits = to - from;
+        if (digits > 0 && digits <= MAX_LONG_DIGITS) {
+            final long negatedMagnitude = parseLong(source, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+            if (negatedMagnitude != FAILED) {
+                return BigInteger.valueOf(value(source, from, negatedMagnitude));
+            }
+        }
+
+        if (!isInteger(source, from, to) && isAscii(source, from, to)) {
+            return null;
+        }
+
+        try {
+            return new BigInteger(source.subSequence(from, to).toString());
+        } catch (final NumberFormatException ignored) {
+            return null;
+        }
+    }
+
+    static @Nullable BigDecimal parseBigDecimal(final CharSequence source, final int from, final int to) {
+        final Decimal decimal = Decimal.scan(source, from, to);
+        if (decimal == null) {
+            if (isAscii(source, from, to)) {
+                return null;
+            }
+        } else if (decimal.exact) {
+            return BigDecimal.valueOf(decimal.negative ? -decimal.mantissa : decimal.mantissa, decimal.scale);
+        }
+
+        try {
+            return new BigDecimal(source.subSequence(from, to).toString());
+        } catch (final NumberFormatException ignored) {
+            return null;
+        }
+    }
+
+    static @Nullable Double parseDouble(final CharSequence source, final int from, final int to) {
+        final Decimal decimal = Decimal.scan(source, from, to);
+        // exact mantissa and power of ten give a correctly rounded quotient
+        if (decimal != null && decimal.exact && decimal.digits <= MAX_DOUBLE_DIGITS && decimal.scale < DOUBLE_POWERS_OF_TEN.length) {
+            final double value = (double) decimal.mantissa / DOUBLE_POWERS_OF_TEN[decimal.scale];
+            return decimal.negative ? -value : value;
+        }
+
+        if (decimal == null && !isFloatingPointLiteral(source, from, to)) {
+            return null;
+        }
+
+        try {
+            return Double.valueOf(source.subSequence(from, to).toString());
+        } catch (final NumberFormatException ignored) {
+            return null;
+        }
+    }
+
+    static @Nullable Float parseFloat(final CharSequence source, final int from, final int to) {
+        final Decimal decimal = Decimal.scan(source, from, to);
+        if (decimal != null && decimal.exact && decimal.digits <= MAX_FLOAT_DIGITS && decimal.scale < FLOAT_POWERS_OF_TEN.length) {
+            final float value = (float) decimal.mantissa / FLOAT_POWERS_OF_TEN[decimal.scale];
+            return decimal.negative ? -value : value;
+        }
+
+        if (decimal == null && !isFloatingPointLiteral(source, from, to)) {
+            return null;
+        }
+
+        try {
+            return Float.valueOf(source.subSequence(from, to).toString());
+        } catch (final NumberFormatException ignored) {
+            return null;
+        }
+    }
+
+    private static boolean isInteger(final CharSequence source, final int from, final int to) {
+        int index = from;
+        if (index < to && (source.charAt(index) == '-' || source.charAt(index) == '+')) {
+            index++;
+        }
+        if (index == to) {
+            return false;
+        }
+
+        for (; index < to; index++) {
+            final char c = source.charAt(index);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // literals which Double.valueOf accepts but Decimal does not scan: type suffixes, NaN, Infinity and hex notation
+    private static boolean isFloatingPointLiteral(final CharSequence source, final int from, final int to) {
+        if (from >= to) {
+            return false;
+        }
+        if (!isAscii(source, from, to)) {
+            return true;
+        }
+
+        final char last = source.charAt(to - 1);
+        if (last == 'f' || last == 'F' || last == 'd' || last == 'D') {
+            return true;
+        }
+
+        int index = from;
+        if (source.charAt(index) == '-' || source.charAt(index) == '+') {
+            index++;
+        }
+        if (index >= to) {
+            return false;
+        }
+
+        final char first = source.charAt(index);
+        return first == 'N' || first == 'I' || (first == '0' && index + 1 < to && (source.charAt(index + 1) | 0x20) == 'x');
+    }
+
+    private static final class Decimal {
+
+        private final boolean negative;
+        private final long mantissa;
+        private final int digits;
+        private final int scale;
+        private final boolean exact;
+
+        private Decimal(final boolean negative, final long mantissa, final int digits, final int scale, final boolean exact) {
+            this.negative = negative;
+            this.mantissa = mantissa;
+            this.digits = digits;
+            this.scale = scale;
+            this.exact = exact;
+        }
+
+        // scans [sign] digits [. digits] [(e|E) [sign] digits], mantissa and scale are exact without exponent and up to 18 significant digits
+        private static @Nullable Decimal scan(final CharSequence source, final int from, final int to) {
+            int index = from;
+            boolean negative = false;
+            if (index < to && (source.charAt(index) == '-' || source.charAt(index) == '+')) {
+                negative = source.charAt(index) == '-';
+                index++;
+            }
+
+            long mantissa = 0;
+            int digits = 0;
+            int significantDigits = 0;
+            int scale = 0;
+            boolean fraction = false;
+            for (; index < to; index++) {
+                final char c = source.charAt(index);
+                if (c >= '0' && c <= '9') {
+                    digits++;
+                    if (significantDigits > 0 || c != '0') {
+                        significantDigits++;
+                    }
+                    if (significantDigits <= MAX_LONG_DIGITS) {
+                        mantissa = mantissa * 10 + (c - '0');
+                    }
+                    if (fraction) {
+                        scale++;
+                    }
+                } else if (c == '.' && !fraction) {
+                    fraction = true;
+                } else {
+                    break;
+                }
+            }
+
+            if (digits == 0) {
+                return null;
+            }
+
+            boolean hasExponent = false;
+            if (index < to && (source.charAt(index) == 'e' || source.charAt(index) == 'E')) {
+                hasExponent = true;
+                index++;
+                if (index < to && (source.charAt(index) == '-' || source.charAt(index) == '+')) {
+                    index++;
+                }
+
+                final int exponentStart = index;
+                while (index < to && source.charAt(index) >= '0' && source.charAt(index) <= '9') {
+                    index++;
+                }
+                if (index == exponentStart) {
+                    return null;
+                }
+            }
+
+            if (index != to) {
+                return null;
+            }
+
+            return new Decimal(negative, mantissa, significantDigits, scale, !hasExponent && significantDigits <= MAX_LONG_DIGITS);
+        }
+    }
+}
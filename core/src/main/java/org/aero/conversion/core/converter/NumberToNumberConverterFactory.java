@@ -19,6 +19,7 @@
 import org.aero.conversion.core.exception.ConversionException;
 import org.aero.conversion.core.exception.ConversionFailedException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
@@ -27,9 +28,21 @@
 @SuppressWarnings("MissingJavaDocType")
 public class NumberToNumberConverterFactory implements ConverterFactory<Number, Number>, ConverterCondition {
 
+    private final boolean lightweightExceptions;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public NumberToNumberConverterFactory() {
+        this(false);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public NumberToNumberConverterFactory(final boolean lightweightExceptions) {
+        this.lightweightExceptions = lightweightExceptions;
+    }
+
     @Override
     public @NotNull <T extends Number> Converter<Number, T> create(final Class<T> targetType) {
-        return new NumberToNumber<>(targetType);
+        return new NumberToNumber<>(targetType, this.lightweightExceptions);
     }
 
     @Override
@@ -38,62 +51,166 @@ public boolean matches(@NotNull final Type sourceType, @NotNull final Type targe
     }
 
     @SuppressWarnings("ClassCanBeRecord")
-    private static final class NumberToNumber<T extends Number> implements Converter<Number, T> {
+    private static final class NumberToNumber<T extends Number>
+        implements Converter<Number, T>, ToIntConverter<Number>, ToLongConverter<Number>, ToDoubleConverter<Number> {
+
+        private static final int BYTE = 0;
+        private static final int SHORT = 1;
+        private static final int INTEGER = 2;
+        private static final int LONG = 3;
+        private static final int FLOAT = 4;
+        private static final int DOUBLE = 5;
+        private static final int BIG_INTEGER = 6;
+        private static final int BIG_DECIMAL = 7;
+        // subclasses of BigInteger and BigDecimal or any other Number implementation
+        private static final int OTHER = 8;
 
-        private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
-        private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+        // routes by source and target index, OTHER is only a source
+        private static final Route[][] ROUTES = new Route[OTHER + 1][OTHER];
 
-        private final Class<T> targetType;
+        static {
+            for (int source = 0; source < ROUTES.length; source++) {
+                for (int target = 0; target < OTHER; target++) {
+                    ROUTES[source][target] = route(source, target);
+                }
+            }
+        }
 
-        private NumberToNumber(final Class<T> targetType) {
-            this.targetType = targetType;
+        private final int targetIndex;
+        private final boolean lightweightExceptions;
+
+        private NumberToNumber(final Class<T> targetType, final boolean lightweightExceptions) {
+            this.targetIndex = index(targetType);
+            this.lightweightExceptions = lightweightExceptions;
         }
 
-        @SuppressWarnings("unchecked")
         @Override
         public @NotNull T convert(@NotNull final Number source, @NotNull final Type sourceType, @NotNull final Type targetType)
             throws ConversionException {
-            final long value = this.convertToLong(source, sourceType, targetType);
-            if (Byte.class == this.targetType) {
-                if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
-                    return (T) Byte.valueOf(source.byteValue());
-                }
-            } else if (Short.class == this.targetType) {
-                if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
-                    return (T) Short.valueOf(source.shortValue());
-                }
-            } else if (Integer.class == this.targetType) {
-                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
-                    return (T) Integer.valueOf(source.intValue());
-                }
-            } else if (Long.class == this.targetType) {
-                return (T) Long.valueOf(value);
-            } else if (BigInteger.class == this.targetType) {
-                if (source instanceof BigDecimal bigDecimal) {
-                    return (T) bigDecimal.toBigInteger();
-                } else {
-                    return (T) BigInteger.valueOf(source.longValue());
-                }
-            } else if (Float.class == this.targetType) {
-                return (T) Float.valueOf(source.floatValue());
-            } else if (Double.class == this.targetType) {
-                return (T) Double.valueOf(source.doubleValue());
-            } else if (BigDecimal.class == this.targetType) {
-                return (T) new BigDecimal(source.toString());
+            final T result = this.tryConvert(source, sourceType, targetType);
+            if (result == null) {
+                throw new ConversionFailedException(sourceType, targetType, null, !this.lightweightExceptions);
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public @Nullable T tryConvert(@NotNull final Number source, @NotNull final Type sourceType, @NotNull final Type targetType) {
+            if (this.targetIndex == OTHER) {
+                return null;
             }
+            return (T) ROUTES[index(source.getClass())][this.targetIndex].convert(source);
+        }
 
-            throw new ConversionFailedException(sourceType, targetType);
+        @Override
+        public int convertToInt(@NotNull final Number source, @NotNull final Type sourceType) throws ConversionException {
+            if (source instanceof Integer integer) {
+                return integer;
+            }
+            final long value = source.longValue();
+            if (!fitsIntoLong(source) || value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw new ConversionFailedException(sourceType, Integer.class, null, !this.lightweightExceptions);
+            }
+            return source.intValue();
         }
 
-        private long convertToLong(final Number source, final Type sourceType, final Type targetType) throws ConversionException {
+        @Override
+        public long convertToLong(@NotNull final Number source, @NotNull final Type sourceType) throws ConversionException {
+            if (!fitsIntoLong(source)) {
+                throw new ConversionFailedException(sourceType, Long.class, null, !this.lightweightExceptions);
+            }
+            return source.longValue();
+        }
+
+        @Override
+        public double convertToDouble(@NotNull final Number source, @NotNull final Type sourceType) throws ConversionException {
+            if (!fitsIntoLong(source)) {
+                throw new ConversionFailedException(sourceType, Double.class, null, !this.lightweightExceptions);
+            }
+            return source.doubleValue();
+        }
+
+        private static boolean fitsIntoLong(final Number source) {
             final BigInteger bigInt = source instanceof BigInteger bigInteger ? bigInteger
                 : source instanceof BigDecimal bigDecimal ? bigDecimal.toBigInteger() : null;
 
-            if (bigInt == null || (bigInt.compareTo(LONG_MIN) >= 0 && bigInt.compareTo(LONG_MAX) <= 0)) {
-                return source.longValue();
+            return bigInt == null || fitsIntoLong(bigInt);
+        }
+
+        // two's complement bit length, so Long.MIN_VALUE still fits
+        private static boolean fitsIntoLong(final BigInteger source) {
+            return source.bitLength() < Long.SIZE;
+        }
+
+        private static int index(final Class<?> type) {
+            if (type == Integer.class) {
+                return INTEGER;
+            } else if (type == Long.class) {
+                return LONG;
+            } else if (type == Double.class) {
+                return DOUBLE;
+            } else if (type == Float.class) {
+                return FLOAT;
+            } else if (type == Short.class) {
+                return SHORT;
+            } else if (type == Byte.class) {
+                return BYTE;
+            } else if (type == BigDecimal.class) {
+                return BIG_DECIMAL;
+            } else if (type == BigInteger.class) {
+                return BIG_INTEGER;
             }
+            return OTHER;
+        }
+
+        private static Route route(final int source, final int target) {
+            if (source == target) {
+                return value -> value;
+            }
+
+            if (target == BIG_DECIMAL) {
+                return switch (source) {
+                    case BYTE, SHORT, INTEGER, LONG -> value -> BigDecimal.valueOf(value.longValue());
+                    case DOUBLE -> value -> Double.isFinite(value.doubleValue()) ? BigDecimal.valueOf(value.doubleValue()) : null;
+                    // the decimal string of a float is shorter than the one of the widened double, e.g. 0.1 instead of 0.10000000149011612
+                    case FLOAT -> value -> Float.isFinite(value.floatValue()) ? new BigDecimal(value.toString()) : null;
+                    case BIG_INTEGER -> value -> fitsIntoLong((BigInteger) value) ? new BigDecimal((BigInteger) value) : null;
+                    default -> value -> fitsIntoLong(value) ? new BigDecimal(value.toString()) : null;
+                };
+            }
+
+            final Route route = switch (target) {
+                case BYTE -> value -> {
+                    final long longValue = value.longValue();
+                    return longValue >= Byte.MIN_VALUE && longValue <= Byte.MAX_VALUE ? Byte.valueOf(value.byteValue()) : null;
+                };
+                case SHORT -> value -> {
+                    final long longValue = value.longValue();
+                    return longValue >= Short.MIN_VALUE && longValue <= Short.MAX_VALUE ? Short.valueOf(value.shortValue()) : null;
+                };
+                case INTEGER -> value -> {
+                    final long longValue = value.longValue();
+                    return longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE ? Integer.valueOf(value.intValue()) : null;
+                };
+                case LONG -> value -> Long.valueOf(value.longValue());
+                case FLOAT -> value -> Float.valueOf(value.floatValue());
+                case DOUBLE -> value -> Double.valueOf(value.doubleValue());
+                default -> value -> value instanceof BigDecimal bigDecimal ? bigDecimal.toBigInteger() : BigInteger.valueOf(value.longValue());
+            };
 
-            throw new ConversionFailedException(sourceType, targetType);
+            // only arbitrary precision sources can exceed the range of long
+            if (source <= DOUBLE) {
+                return route;
+            }
+            return value -> fitsIntoLong(value) ? route.convert(value) : null;
         }
     }
+
+    @FunctionalInterface
+    private interface Route {
+
+        @Nullable Number convert(Number source);
+
+    }
 }
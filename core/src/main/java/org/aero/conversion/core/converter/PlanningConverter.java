@@ -0,0 +1,31 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core.converter;
+
+import org.aero.conversion.core.ConversionPlan;
+import org.aero.conversion.core.exception.ConversionException;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Type;
+
+@SuppressWarnings("MissingJavaDocType")
+public interface PlanningConverter<T, U> extends Converter<T, U> {
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    @NotNull ConversionPlan<T, U> plan(@NotNull Type sourceType, @NotNull Type targetType) throws ConversionException;
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core.converter;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import org.aero.conversion.core.ConversionBus;
+import org.aero.conversion.core.ConversionPlan;
+import org.aero.conversion.core.exception.ConversionException;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Type;
+
+// Elements of raw collections and Object arrays are only known at runtime, the plan of the last seen class is kept
+final class RuntimeTypePlan implements ConversionPlan<Object, Object> {
+
+    private final ConversionBus conversionBus;
+    private final Type targetType;
+    // racy but safe as the slot is immutable
+    private CachedPlan cached;
+
+    private RuntimeTypePlan(final ConversionBus conversionBus, final Type targetType) {
+        this.conversionBus = conversionBus;
+        this.targetType = targetType;
+    }
+
+    static boolean canConvert(final ConversionBus conversionBus, final Type sourceElementType, final Type targetElementType) {
+        return Object.class == sourceElementType || conversionBus.canConvert(sourceElementType, targetElementType);
+    }
+
+    static ConversionPlan<Object, Object> plan(final ConversionBus conversionBus, final Type sourceElementType, final Type targetElementType)
+        throws ConversionException {
+        if (Object.class == sourceElementType && Object.class != targetElementType) {
+            return new RuntimeTypePlan(conversionBus, targetElementType);
+        }
+        // primitive array components are read boxed
+        return conversionBus.plan(GenericTypeReflector.box(sourceElementType), targetElementType);
+    }
+
+    @Override
+    public @NotNull Type sourceType() {
+        return Object.class;
+    }
+
+    @Override
+    public @NotNull Type targetType() {
+        return this.targetType;
+    }
+
+    @Override
+    public @NotNull Object convert(@NotNull final Object source) throws ConversionException {
+        return this.plan(source).convert(source);
+    }
+
+    @Override
+    public int convertToInt(@NotNull final Object source) throws ConversionException {
+        return this.plan(source).convertToInt(source);
+    }
+
+    @Override
+    public long convertToLong(@NotNull final Object source) throws ConversionException {
+        return this.plan(source).convertToLong(source);
+    }
+
+    @Override
+    public double convertToDouble(@NotNull final Object source) throws ConversionException {
+        return this.plan(source).convertToDouble(source);
+    }
+
+    @Override
+    public boolean convertToBoolean(@NotNull final Object source) throws ConversionException {
+        return this.plan(source).convertToBoolean(source);
+    }
+
+    private ConversionPlan<Object, Object> plan(final Object source) throws ConversionException {
+        final Class<?> sourceType = source.getClass();
+        final CachedPlan cached = this.cached;
+        if (cached != null && cached.sourceType() == sourceType) {
+            return cached.plan();
+        }
+
+        final ConversionPlan<Object, Object> plan = this.conversionBus.plan((Type) sourceType, this.targetType);
+        this.cached = new CachedPlan(sourceType, plan);
+        return plan;
+    }
+
+    private record CachedPlan(Class<?> sourceType, ConversionPlan<Object, Object> plan) {
+
+    }
+}
@@ -19,30 +19,79 @@
 import org.aero.conversion.core.exception.ConversionException;
 import org.aero.conversion.core.exception.ConversionFailedException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
-import java.util.Locale;
 import java.util.Set;
 
 @SuppressWarnings("MissingJavaDocType")
-public class StringToBooleanConverter implements Converter<String, Boolean> {
+public class StringToBooleanConverter implements Converter<String, Boolean>, ToBooleanConverter<String> {
 
-    private static final Set<String> TRUE_VALUES = Set.of("true", "t", "on", "yes", "y", "1");
-    private static final Set<String> FALSE_VALUES = Set.of("false", "f", "off", "no", "n", "0");
+    @SuppressWarnings("JavaDocVariable")
+    public static final Set<String> TRUE_TOKENS = Set.of("true", "t", "on", "yes", "y", "1");
+    @SuppressWarnings("JavaDocVariable")
+    public static final Set<String> FALSE_TOKENS = Set.of("false", "f", "off", "no", "n", "0");
+
+    private final boolean lightweightExceptions;
+    private final TokenTable<Boolean> tokens;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToBooleanConverter() {
+        this(false);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToBooleanConverter(final boolean lightweightExceptions) {
+        this(lightweightExceptions, TRUE_TOKENS, FALSE_TOKENS);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToBooleanConverter(final boolean lightweightExceptions, @NotNull final Set<String> trueTokens,
+        @NotNull final Set<String> falseTokens
+    ) {
+        this.lightweightExceptions = lightweightExceptions;
+        // tokens are matched case-insensitively against the trimmed source
+        this.tokens = new TokenTable<>(trueTokens.size() + falseTokens.size(), true);
+        for (final String token : trueTokens) {
+            this.put(token, Boolean.TRUE);
+        }
+        for (final String token : falseTokens) {
+            this.put(token, Boolean.FALSE);
+        }
+    }
 
     @Override
     public @NotNull Boolean convert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType)
         throws ConversionException {
-        final String trimmed = source.trim().toLowerCase(Locale.ROOT);
-
-        if (TRUE_VALUES.contains(trimmed)) {
-            return Boolean.TRUE;
+        final Boolean result = this.tryConvert(source, sourceType, targetType);
+        if (result == null) {
+            throw new ConversionFailedException(sourceType, targetType, null, !this.lightweightExceptions);
         }
+        return result;
+    }
+
+    @Override
+    public @Nullable Boolean tryConvert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType) {
+        final int start = NumberParser.trimStart(source);
+        return this.tokens.get(source, start, NumberParser.trimEnd(source, start));
+    }
 
-        if (FALSE_VALUES.contains(trimmed)) {
-            return Boolean.FALSE;
+    @Override
+    public boolean convertToBoolean(@NotNull final String source, @NotNull final Type sourceType) throws ConversionException {
+        final Boolean result = this.tryConvert(source, sourceType, Boolean.class);
+        if (result == null) {
+            throw new ConversionFailedException(sourceType, Boolean.class, null, !this.lightweightExceptions);
         }
+        return result;
+    }
 
-        throw new ConversionFailedException(sourceType, targetType);
+    private void put(final String token, final Boolean value) {
+        final int start = NumberParser.trimStart(token);
+        if (start == token.length() || NumberParser.trimEnd(token, start) != token.length()) {
+            throw new IllegalArgumentException("Boolean token '" + token + "' is blank or not trimmed");
+        }
+        if (!this.tokens.put(token, value)) {
+            throw new IllegalArgumentException("Duplicate boolean token '" + token + "'");
+        }
     }
 }
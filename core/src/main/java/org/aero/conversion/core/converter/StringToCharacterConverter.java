@@ -19,22 +19,38 @@
 import org.aero.conversion.core.exception.ConversionException;
 import org.aero.conversion.core.exception.ConversionFailedException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 
 @SuppressWarnings("MissingJavaDocType")
 public class StringToCharacterConverter implements Converter<String, Character> {
 
+    private final boolean lightweightExceptions;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToCharacterConverter() {
+        this(false);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToCharacterConverter(final boolean lightweightExceptions) {
+        this.lightweightExceptions = lightweightExceptions;
+    }
+
     @Override
     public @NotNull Character convert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType)
         throws ConversionException {
-        if (source.isEmpty()) {
-            throw new ConversionFailedException(sourceType, targetType);
+        final Character result = this.tryConvert(source, sourceType, targetType);
+        if (result == null) {
+            throw new ConversionFailedException(sourceType, targetType, null, !this.lightweightExceptions);
         }
-        if (source.length() > 1) {
-            throw new ConversionFailedException(sourceType, targetType);
-        }
-        return source.charAt(0);
+        return result;
+    }
+
+    @Override
+    public @Nullable Character tryConvert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType) {
+        return source.length() == 1 ? source.charAt(0) : null;
     }
 
 }
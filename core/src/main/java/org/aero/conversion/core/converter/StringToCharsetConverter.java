@@ -16,7 +16,10 @@
 
 package org.aero.conversion.core.converter;
 
+import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.exception.ConversionFailedException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
@@ -24,8 +27,50 @@
 @SuppressWarnings("MissingJavaDocType")
 public class StringToCharsetConverter implements Converter<String, Charset> {
 
+    private final boolean lightweightExceptions;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToCharsetConverter() {
+        this(false);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToCharsetConverter(final boolean lightweightExceptions) {
+        this.lightweightExceptions = lightweightExceptions;
+    }
+
     @Override
-    public @NotNull Charset convert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType) {
-        return Charset.forName(source.trim());
+    public @NotNull Charset convert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType)
+        throws ConversionException {
+        final Charset result = this.tryConvert(source, sourceType, targetType);
+        if (result == null) {
+            throw new ConversionFailedException(sourceType, targetType, null, !this.lightweightExceptions);
+        }
+        return result;
+    }
+
+    @Override
+    public @Nullable Charset tryConvert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType) {
+        final String trimmed = source.trim();
+        // Charset.isSupported only throws for illegal names, so validate those up front
+        if (!isLegalName(trimmed) || !Charset.isSupported(trimmed)) {
+            return null;
+        }
+        return Charset.forName(trimmed);
+    }
+
+    private static boolean isLegalName(final String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            final boolean alphanumeric = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+            if (!alphanumeric && (i == 0 || (c != '-' && c != '+' && c != ':' && c != '_' && c != '.'))) {
+                return false;
+            }
+        }
+        return true;
     }
 }
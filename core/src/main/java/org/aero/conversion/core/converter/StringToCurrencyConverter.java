@@ -16,16 +16,58 @@
 
 package org.aero.conversion.core.converter;
 
+import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.exception.ConversionFailedException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
 
 @SuppressWarnings("MissingJavaDocType")
 public class StringToCurrencyConverter implements Converter<String, Currency> {
 
+    private final boolean lightweightExceptions;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToCurrencyConverter() {
+        this(false);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToCurrencyConverter(final boolean lightweightExceptions) {
+        this.lightweightExceptions = lightweightExceptions;
+    }
+
     @Override
-    public @NotNull Currency convert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType) {
-        return Currency.getInstance(source.trim());
+    public @NotNull Currency convert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType)
+        throws ConversionException {
+        final Currency result = this.tryConvert(source, sourceType, targetType);
+        if (result == null) {
+            throw new ConversionFailedException(sourceType, targetType, null, !this.lightweightExceptions);
+        }
+        return result;
+    }
+
+    @Override
+    public @Nullable Currency tryConvert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType) {
+        return Currencies.BY_CODE.get(source.trim());
+    }
+
+    private static final class Currencies {
+
+        private static final Map<String, Currency> BY_CODE = new HashMap<>();
+
+        static {
+            for (final Currency currency : Currency.getAvailableCurrencies()) {
+                BY_CODE.put(currency.getCurrencyCode(), currency);
+            }
+        }
+
+        private Currencies() {
+            throw new UnsupportedOperationException();
+        }
     }
 }
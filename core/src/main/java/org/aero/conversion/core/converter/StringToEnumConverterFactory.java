@@ -20,34 +20,64 @@
 import org.aero.conversion.core.exception.ConversionFailedException;
 import org.aero.conversion.core.util.ConversionUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 
 @SuppressWarnings({"rawtypes", "unchecked", "MissingJavaDocType"})
 public class StringToEnumConverterFactory implements ConverterFactory<String, Enum> {
 
+    private final boolean lightweightExceptions;
+    private final boolean ignoreCase;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToEnumConverterFactory() {
+        this(false);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToEnumConverterFactory(final boolean lightweightExceptions) {
+        this(lightweightExceptions, false);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToEnumConverterFactory(final boolean lightweightExceptions, final boolean ignoreCase) {
+        this.lightweightExceptions = lightweightExceptions;
+        this.ignoreCase = ignoreCase;
+    }
+
     @Override
     public @NotNull <T extends Enum> Converter<String, T> create(final Class<T> targetType) {
-        return new StringToEnum(ConversionUtil.enumType(targetType));
+        return new StringToEnum(EnumLookup.of(ConversionUtil.enumType(targetType)), this.lightweightExceptions, this.ignoreCase);
     }
 
-    @SuppressWarnings("ClassCanBeRecord")
     private static final class StringToEnum<T extends Enum> implements Converter<String, T> {
 
-        private final Class<T> enumType;
+        private final EnumLookup lookup;
+        private final boolean lightweightExceptions;
+        private final boolean ignoreCase;
 
-        private StringToEnum(final Class<T> enumType) {
-            this.enumType = enumType;
+        private StringToEnum(final EnumLookup lookup, final boolean lightweightExceptions, final boolean ignoreCase) {
+            this.lookup = lookup;
+            this.lightweightExceptions = lightweightExceptions;
+            this.ignoreCase = ignoreCase;
         }
 
         @Override
         public @NotNull T convert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType)
             throws ConversionException {
-            if (source.isEmpty()) {
-                // It's an empty enum identifier: reset the enum value to null.
-                throw new ConversionFailedException(sourceType, targetType);
+            final T result = this.tryConvert(source, sourceType, targetType);
+            if (result == null) {
+                throw new ConversionFailedException(sourceType, targetType, null, !this.lightweightExceptions);
             }
-            return (T) Enum.valueOf(this.enumType, source.trim());
+            return result;
+        }
+
+        @Override
+        public @Nullable T tryConvert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType) {
+            // an empty enum identifier does not match any constant
+            final int start = NumberParser.trimStart(source);
+            return (T) this.lookup.find(source, start, NumberParser.trimEnd(source, start), this.ignoreCase);
         }
     }
 
@@ -19,6 +19,7 @@
 import org.aero.conversion.core.exception.ConversionException;
 import org.aero.conversion.core.exception.ConversionFailedException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
@@ -27,52 +28,125 @@
 @SuppressWarnings("MissingJavaDocType")
 public class StringToNumberConverterFactory implements ConverterFactory<String, Number> {
 
+    private final boolean lightweightExceptions;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToNumberConverterFactory() {
+        this(false);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToNumberConverterFactory(final boolean lightweightExceptions) {
+        this.lightweightExceptions = lightweightExceptions;
+    }
+
     @Override
     public @NotNull <T extends Number> Converter<String, T> create(final Class<T> targetType) {
-        return new StringToNumber<>(targetType);
+        return new StringToNumber<>(targetType, this.lightweightExceptions);
     }
 
     @SuppressWarnings("ClassCanBeRecord")
-    private static final class StringToNumber<T extends Number> implements Converter<String, T> {
+    private static final class StringToNumber<T extends Number>
+        implements Converter<String, T>, ToIntConverter<String>, ToLongConverter<String>, ToDoubleConverter<String> {
 
         private final Class<T> targetType;
+        private final boolean lightweightExceptions;
 
-        private StringToNumber(final Class<T> targetType) {
+        private StringToNumber(final Class<T> targetType, final boolean lightweightExceptions) {
             this.targetType = targetType;
+            this.lightweightExceptions = lightweightExceptions;
         }
 
-        @SuppressWarnings("unchecked")
         @Override
         public @NotNull T convert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType)
             throws ConversionException {
-            if (source.isEmpty()) {
-                throw new ConversionFailedException(sourceType, targetType);
+            final T result = this.tryConvert(source, sourceType, targetType);
+            if (result == null) {
+                throw new ConversionFailedException(sourceType, targetType, null, !this.lightweightExceptions);
             }
-            final String trimmed = source.trim();
+            return result;
+        }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public @Nullable T tryConvert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType) {
+            // surrounding whitespace is skipped like String.trim does, but without copying
+            final int from = NumberParser.trimStart(source);
+            final int to = NumberParser.trimEnd(source, from);
+
+            if (Byte.class == this.targetType) {
+                final long value = this.parseLong(source, from, to, Byte.MIN_VALUE, Byte.MAX_VALUE);
+                return value == NumberParser.FAILED ? null : (T) Byte.valueOf((byte) NumberParser.value(source, from, value));
+            } else if (Short.class == this.targetType) {
+                final long value = this.parseLong(source, from, to, Short.MIN_VALUE, Short.MAX_VALUE);
+                return value == NumberParser.FAILED ? null : (T) Short.valueOf((short) NumberParser.value(source, from, value));
+            } else if (Integer.class == this.targetType) {
+                final long value = this.parseLong(source, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+                return value == NumberParser.FAILED ? null : (T) Integer.valueOf((int) NumberParser.value(source, from, value));
+            } else if (Long.class == this.targetType) {
+                final long value = this.parseLong(source, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+                return value == NumberParser.FAILED ? null : (T) Long.valueOf(NumberParser.value(source, from, value));
+            } else if (BigInteger.class == this.targetType) {
+                return (T) NumberParser.parseBigInteger(source, from, to);
+            } else if (Float.class == this.targetType) {
+                return (T) NumberParser.parseFloat(source, from, to);
+            } else if (Double.class == this.targetType) {
+                return (T) NumberParser.parseDouble(source, from, to);
+            } else if (BigDecimal.class == this.targetType || Number.class == this.targetType) {
+                return (T) NumberParser.parseBigDecimal(source, from, to);
+            }
+
+            return null;
+        }
+
+        @Override
+        public int convertToInt(@NotNull final String source, @NotNull final Type sourceType) throws ConversionException {
+            final int from = NumberParser.trimStart(source);
+            final int to = NumberParser.trimEnd(source, from);
+            final long value = this.parseLong(source, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            if (value == NumberParser.FAILED) {
+                throw new ConversionFailedException(sourceType, Integer.class, null, !this.lightweightExceptions);
+            }
+            return (int) NumberParser.value(source, from, value);
+        }
+
+        @Override
+        public long convertToLong(@NotNull final String source, @NotNull final Type sourceType) throws ConversionException {
+            final int from = NumberParser.trimStart(source);
+            final int to = NumberParser.trimEnd(source, from);
+            final long value = this.parseLong(source, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+            if (value == NumberParser.FAILED) {
+                throw new ConversionFailedException(sourceType, Long.class, null, !this.lightweightExceptions);
+            }
+            return NumberParser.value(source, from, value);
+        }
+
+        @Override
+        public double convertToDouble(@NotNull final String source, @NotNull final Type sourceType) throws ConversionException {
+            final int from = NumberParser.trimStart(source);
+            final Double value = NumberParser.parseDouble(source, from, NumberParser.trimEnd(source, from));
+            if (value == null) {
+                throw new ConversionFailedException(sourceType, Double.class, null, !this.lightweightExceptions);
+            }
+            return value;
+        }
+
+        private long parseLong(final String source, final int from, final int to, final long min, final long max) {
+            final long value = NumberParser.parseLong(source, from, to, min, max);
+            if (value != NumberParser.FAILED || NumberParser.isAscii(source, from, to)) {
+                return value;
+            }
+
+            // the JDK also accepts digits of other scripts, its result is negated like the one of NumberParser
             try {
-                if (Byte.class == this.targetType) {
-                    return (T) Byte.valueOf(trimmed);
-                } else if (Short.class == this.targetType) {
-                    return (T) Short.valueOf(trimmed);
-                } else if (Integer.class == this.targetType) {
-                    return (T) Integer.valueOf(trimmed);
-                } else if (Long.class == this.targetType) {
-                    return (T) Long.valueOf(trimmed);
-                } else if (BigInteger.class == this.targetType) {
-                    return (T) new BigInteger(trimmed);
-                } else if (Float.class == this.targetType) {
-                    return (T) Float.valueOf(trimmed);
-                } else if (Double.class == this.targetType) {
-                    return (T) Double.valueOf(trimmed);
-                } else if (BigDecimal.class == this.targetType || Number.class == this.targetType) {
-                    return (T) new BigDecimal(trimmed);
+                final long parsed = Long.parseLong(source.substring(from, to));
+                if (parsed < min || parsed > max) {
+                    return NumberParser.FAILED;
                 }
-            } catch (final NumberFormatException e) {
-                throw new ConversionFailedException(sourceType, targetType, e);
+                return parsed <= 0 ? parsed : -parsed;
+            } catch (final NumberFormatException ignored) {
+                return NumberParser.FAILED;
             }
-
-            throw new ConversionFailedException(sourceType, targetType);
         }
     }
 }
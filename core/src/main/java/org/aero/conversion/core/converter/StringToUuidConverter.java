@@ -16,7 +16,10 @@
 
 package org.aero.conversion.core.converter;
 
+import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.exception.ConversionFailedException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.util.UUID;
@@ -24,8 +27,66 @@
 @SuppressWarnings("MissingJavaDocType")
 public class StringToUuidConverter implements Converter<String, UUID> {
 
+    private final boolean lightweightExceptions;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToUuidConverter() {
+        this(false);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public StringToUuidConverter(final boolean lightweightExceptions) {
+        this.lightweightExceptions = lightweightExceptions;
+    }
+
+    @Override
+    public @NotNull UUID convert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType)
+        throws ConversionException {
+        final UUID result = this.tryConvert(source, sourceType, targetType);
+        if (result == null) {
+            throw new ConversionFailedException(sourceType, targetType, null, !this.lightweightExceptions);
+        }
+        return result;
+    }
+
     @Override
-    public @NotNull UUID convert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType) {
-        return UUID.fromString(source.trim());
+    public @Nullable UUID tryConvert(@NotNull final String source, @NotNull final Type sourceType, @NotNull final Type targetType) {
+        final String trimmed = source.trim();
+        if (trimmed.length() == 36) {
+            return parseCanonical(trimmed);
+        }
+
+        // UUID.fromString also accepts shortened groups, which are rare enough to keep using it for them
+        try {
+            return UUID.fromString(trimmed);
+        } catch (final IllegalArgumentException ignored) {
+            return null;
+        }
+    }
+
+    private static @Nullable UUID parseCanonical(final String source) {
+        if (source.charAt(8) != '-' || source.charAt(13) != '-' || source.charAt(18) != '-' || source.charAt(23) != '-') {
+            return null;
+        }
+
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        for (int i = 0; i < 36; i++) {
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                continue;
+            }
+
+            final int digit = Character.digit(source.charAt(i), 16);
+            if (digit < 0) {
+                return null;
+            }
+
+            if (i < 19) {
+                mostSignificantBits = (mostSignificantBits << 4) | digit;
+            } else {
+                leastSignificantBits = (leastSignificantBits << 4) | digit;
+            }
+        }
+        return new UUID(mostSignificantBits, leastSignificantBits);
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core.converter;
+
+import org.jetbrains.annotations.Nullable;
+
+// Fixed size string keyed table which is queried with a range of a CharSequence, so lookups allocate nothing.
+// Open addressing with linear probing, the first key wins on duplicates
+@SuppressWarnings("unchecked")
+final class TokenTable<V> {
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int mask;
+    private final boolean ignoreCase;
+
+    TokenTable(final int size, final boolean ignoreCase) {
+        int capacity = 4;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        this.keys = new String[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.ignoreCase = ignoreCase;
+    }
+
+    boolean put(final String key, final V value) {
+        int index = this.hash(key, 0, key.length()) & this.mask;
+        while (this.keys[index] != null) {
+            if (this.matches(this.keys[index], key, 0, key.length())) {
+                return false;
+            }
+            index = (index + 1) & this.mask;
+        }
+        this.keys[index] = key;
+        this.values[index] = value;
+        return true;
+    }
+
+    @Nullable V get(final CharSequence source, final int from, final int to) {
+        int index = this.hash(source, from, to) & this.mask;
+        String key;
+        while ((key = this.keys[index]) != null) {
+            if (this.matches(key, source, from, to)) {
+                return (V) this.values[index];
+            }
+            index = (index + 1) & this.mask;
+        }
+        return null;
+    }
+
+    private int hash(final CharSequence source, final int from, final int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + this.fold(source.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean matches(final String key, final CharSequence source, final int from, final int to) {
+        if (key.length() != to - from) {
+            return false;
+        }
+
+        for (int i = 0; i < key.length(); i++) {
+            final char expected = key.charAt(i);
+            final char actual = source.charAt(from + i);
+            if (expected != actual && (!this.ignoreCase || this.fold(expected) != this.fold(actual))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // the same folding as String#equalsIgnoreCase
+    private char fold(final char c) {
+        return this.ignoreCase ? Character.toLowerCase(Character.toUpperCase(c)) : c;
+    }
+}
@@ -58,6 +58,14 @@ public ConversionException(@Nullable final Type expectedType, final String messa
         this.expectedType = expectedType;
     }
 
+    @SuppressWarnings("MissingJavaDocMethod")
+    protected ConversionException(@Nullable final Type expectedType, @Nullable final String message, @Nullable final Throwable cause,
+        final boolean writableStackTrace
+    ) {
+        super(message, cause, true, writableStackTrace);
+        this.expectedType = expectedType;
+    }
+
     @SuppressWarnings("MissingJavaDocMethod")
     public @Nullable Type expectedType() {
         return this.expectedType;
@@ -16,18 +16,49 @@
 
 package org.aero.conversion.core.exception;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
 import java.lang.reflect.Type;
 
 @SuppressWarnings("MissingJavaDocType")
 public class ConversionFailedException extends ConversionException {
 
+    private final Type sourceType;
+    private final Type targetType;
+
     @SuppressWarnings("MissingJavaDocMethod")
     public ConversionFailedException(final Type sourceType, final Type targetType) {
-        super(targetType, "Failed to convert input value of type [" + sourceType.getTypeName() + "] to [" + targetType.getTypeName() + "]");
+        this(sourceType, targetType, null, true);
     }
 
     @SuppressWarnings("MissingJavaDocMethod")
     public ConversionFailedException(final Type sourceType, final Type targetType, final Throwable cause) {
-        super(targetType, "Failed to convert input value of type [" + sourceType.getTypeName() + "] to [" + targetType.getTypeName() + "]", cause);
+        this(sourceType, targetType, cause, true);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public ConversionFailedException(final Type sourceType, final Type targetType, @Nullable final Throwable cause,
+        final boolean writableStackTrace
+    ) {
+        // the message is built on demand, failures are often handled without ever looking at it
+        super(targetType, null, cause, writableStackTrace);
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public @NotNull Type sourceType() {
+        return this.sourceType;
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public @NotNull Type targetType() {
+        return this.targetType;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Failed to convert input value of type [" + this.sourceType.getTypeName() + "] to [" + this.targetType.getTypeName() + "]";
     }
 }
@@ -16,20 +16,52 @@
 
 package org.aero.conversion.core.exception;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
 import java.lang.reflect.Type;
 
 @SuppressWarnings("MissingJavaDocType")
 public class ConverterNotFoundException extends ConversionException {
 
+    private final Type sourceType;
+    private final @Nullable Type targetType;
+
     @SuppressWarnings("MissingJavaDocMethod")
     public ConverterNotFoundException(final Type sourceType, final Type targetType) {
-        super(sourceType, "Failed to find converter which converts the source value of type " + sourceType.getTypeName()
-            + " to target value of type " + targetType.getTypeName());
+        this(sourceType, targetType, true);
     }
 
     @SuppressWarnings("MissingJavaDocMethod")
     public ConverterNotFoundException(final Type sourceType) {
-        super(sourceType, "Failed to find converter which converts the source value of type " + sourceType.getTypeName()
-            + " to any correct target type");
+        this(sourceType, null, true);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public ConverterNotFoundException(final Type sourceType, @Nullable final Type targetType, final boolean writableStackTrace) {
+        super(sourceType, null, null, writableStackTrace);
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public @NotNull Type sourceType() {
+        return this.sourceType;
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public @Nullable Type targetType() {
+        return this.targetType;
+    }
+
+    @Override
+    public String getMessage() {
+        if (this.targetType == null) {
+            return "Failed to find converter which converts the source value of type " + this.sourceType.getTypeName()
+                + " to any correct target type";
+        }
+
+        return "Failed to find converter which converts the source value of type " + this.sourceType.getTypeName()
+            + " to target value of type " + this.targetType.getTypeName();
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.aero.conversion.core.exception;
+
+import java.lang.reflect.Type;
+
+@SuppressWarnings("MissingJavaDocType")
+public class NullElementException extends ConversionException {
+
+    private static final long serialVersionUID = -2917463150988262871L;
+
+    private final int index;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public NullElementException(final Type targetType, final int index) {
+        this(targetType, index, true);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public NullElementException(final Type targetType, final int index, final boolean writableStackTrace) {
+        super(targetType, null, null, writableStackTrace);
+        this.index = index;
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public int index() {
+        return this.index;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Element at index " + this.index + " is null";
+    }
+}
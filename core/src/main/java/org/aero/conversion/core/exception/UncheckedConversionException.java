@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core.exception;
+
+import org.jetbrains.annotations.NotNull;
+
+@SuppressWarnings("MissingJavaDocType")
+public class UncheckedConversionException extends RuntimeException {
+
+    private static final long serialVersionUID = -7349160239575620143L;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public UncheckedConversionException(@NotNull final ConversionException cause) {
+        super(cause);
+    }
+
+    // the message of the cause may be built lazily, so it is only asked for when needed
+    @Override
+    public String getMessage() {
+        return this.getCause().getMessage();
+    }
+
+    @Override
+    public synchronized @NotNull ConversionException getCause() {
+        return (ConversionException) super.getCause();
+    }
+}
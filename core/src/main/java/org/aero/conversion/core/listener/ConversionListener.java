@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core.listener;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Type;
+
+@SuppressWarnings("MissingJavaDocType")
+public interface ConversionListener {
+
+    // passed as duration when the operation was not sampled
+    @SuppressWarnings("JavaDocVariable")
+    long UNTIMED = -1;
+
+    @SuppressWarnings("JavaDocVariable")
+    ConversionListener NO_OP = new ConversionListener() {
+    };
+
+    // whether the next operation is timed, called once per operation
+    @SuppressWarnings("MissingJavaDocMethod")
+    default boolean sample() {
+        return false;
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    default void cacheHit(@NotNull final Type sourceType, @NotNull final Type targetType) {
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    default void cacheMiss(@NotNull final Type sourceType, @NotNull final Type targetType) {
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    default void converted(@NotNull final Type sourceType, @NotNull final Type targetType, final long durationNanos) {
+    }
+
+    // tryConvert failures are reported with the exception type convert would have thrown, without creating it
+    @SuppressWarnings("MissingJavaDocMethod")
+    default void failed(@NotNull final Type sourceType, @NotNull final Type targetType, @NotNull final Class<? extends Throwable> exceptionType) {
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    default void loaded(@NotNull final Type type, final long durationNanos) {
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    default void saved(@NotNull final Type type, final long durationNanos) {
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core.listener;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+@SuppressWarnings("MissingJavaDocType")
+public final class InMemoryConversionListener implements ConversionListener {
+
+    private static final int DEFAULT_SAMPLE_RATE = 64;
+
+    private final int sampleRate;
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final Map<Class<? extends Throwable>, LongAdder> failures = new ConcurrentHashMap<>();
+    private final Map<Conversion, Recorder> conversions = new ConcurrentHashMap<>();
+    private final Map<Type, Recorder> loads = new ConcurrentHashMap<>();
+    private final Map<Type, Recorder> saves = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public InMemoryConversionListener() {
+        this(DEFAULT_SAMPLE_RATE);
+    }
+
+    // times one of sampleRate operations on average, 1 times every operation
+    @SuppressWarnings("MissingJavaDocMethod")
+    public InMemoryConversionListener(final int sampleRate) {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("sampleRate must be positive");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public boolean sample() {
+        return this.sampleRate == 1 || ThreadLocalRandom.current().nextInt(this.sampleRate) == 0;
+    }
+
+    @Override
+    public void cacheHit(@NotNull final Type sourceType, @NotNull final Type targetType) {
+        this.cacheHits.increment();
+    }
+
+    @Override
+    public void cacheMiss(@NotNull final Type sourceType, @NotNull final Type targetType) {
+        this.cacheMisses.increment();
+    }
+
+    @Override
+    public void converted(@NotNull final Type sourceType, @NotNull final Type targetType, final long durationNanos) {
+        this.conversions.computeIfAbsent(new Conversion(sourceType, targetType), conversion -> new Recorder()).record(durationNanos);
+    }
+
+    @Override
+    public void failed(@NotNull final Type sourceType, @NotNull final Type targetType, @NotNull final Class<? extends Throwable> exceptionType) {
+        this.failures.computeIfAbsent(exceptionType, type -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void loaded(@NotNull final Type type, final long durationNanos) {
+        this.loads.computeIfAbsent(type, key -> new Recorder()).record(durationNanos);
+    }
+
+    @Override
+    public void saved(@NotNull final Type type, final long durationNanos) {
+        this.saves.computeIfAbsent(type, key -> new Recorder()).record(durationNanos);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public long cacheHits() {
+        return this.cacheHits.sum();
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public long cacheMisses() {
+        return this.cacheMisses.sum();
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public @NotNull Map<Class<? extends Throwable>, Long> failures() {
+        final Map<Class<? extends Throwable>, Long> failures = new HashMap<>();
+        this.failures.forEach((type, count) -> failures.put(type, count.sum()));
+        return failures;
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public @NotNull Map<Conversion, Timing> conversions() {
+        return snapshot(this.conversions);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public @NotNull Map<Type, Timing> loads() {
+        return snapshot(this.loads);
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public @NotNull Map<Type, Timing> saves() {
+        return snapshot(this.saves);
+    }
+
+    private static <K> Map<K, Timing> snapshot(final Map<K, Recorder> recorders) {
+        final Map<K, Timing> snapshot = new HashMap<>();
+        recorders.forEach((key, recorder) -> snapshot.put(key, recorder.snapshot()));
+        return snapshot;
+    }
+
+    @SuppressWarnings("MissingJavaDocType")
+    public record Conversion(@NotNull Type sourceType, @NotNull Type targetType) {
+
+    }
+
+    // count is exact, the histogram only covers the sampled operations. Bucket i holds durations below 2^i nanoseconds
+    @SuppressWarnings("MissingJavaDocType")
+    public record Timing(long count, long @NotNull [] buckets) {
+
+        @SuppressWarnings("MissingJavaDocMethod")
+        public long sampled() {
+            long sampled = 0;
+            for (final long bucket : this.buckets) {
+                sampled += bucket;
+            }
+            return sampled;
+        }
+
+        // upper bound of the bucket holding the given quantile, 0 if nothing was sampled
+        @SuppressWarnings("MissingJavaDocMethod")
+        public long quantileNanos(final double quantile) {
+            if (quantile < 0 || quantile > 1) {
+                throw new IllegalArgumentException("quantile must be between 0 and 1");
+            }
+
+            final long sampled = this.sampled();
+            if (sampled == 0) {
+                return 0;
+            }
+
+            final long rank = Math.max(1, (long) Math.ceil(quantile * sampled));
+            long seen = 0;
+            for (int i = 0; i < this.buckets.length; i++) {
+                seen += this.buckets[i];
+                if (seen >= rank) {
+                    return i == Long.SIZE - 1 ? Long.MAX_VALUE : 1L << i;
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static final class Recorder {
+
+        private final LongAdder count = new LongAdder();
+        private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE);
+
+        private void record(final long durationNanos) {
+            this.count.increment();
+            if (durationNanos >= 0) {
+                this.buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(durationNanos));
+            }
+        }
+
+        private Timing snapshot() {
+            final long[] buckets = new long[this.buckets.length()];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = this.buckets.get(i);
+            }
+            return new Timing(this.count.sum(), buckets);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.core.util;
+
+import org.aero.common.core.validate.Check;
+import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.exception.UncheckedConversionException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+@SuppressWarnings("MissingJavaDocType")
+public final class ParallelConversion {
+
+    @SuppressWarnings("JavaDocVariable")
+    public static final ParallelConversion SEQUENTIAL = new ParallelConversion(Integer.MAX_VALUE, ForkJoinPool.commonPool());
+
+    private static final int MINIMUM_CHUNK_SIZE = 1024;
+
+    private final int threshold;
+    private final ForkJoinPool forkJoinPool;
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public ParallelConversion(final int threshold, @NotNull final ForkJoinPool forkJoinPool) {
+        Check.notNull(forkJoinPool, "forkJoinPool");
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be positive");
+        }
+        this.threshold = threshold;
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    public boolean isParallel(final int length) {
+        return length >= this.threshold && this.forkJoinPool.getParallelism() > 1;
+    }
+
+    // runs the task over [0, length), split into chunks on the pool once the threshold is reached. The first failure is rethrown
+    @SuppressWarnings("MissingJavaDocMethod")
+    public void forEachRange(final int length, @NotNull final RangeTask task) throws ConversionException {
+        if (!this.isParallel(length)) {
+            task.run(0, length);
+            return;
+        }
+
+        // a few chunks per worker keep the pool busy when elements differ in cost
+        final int chunkSize = Math.max(MINIMUM_CHUNK_SIZE, length / (this.forkJoinPool.getParallelism() * 4));
+        try {
+            this.forkJoinPool.invoke(new RangeAction(task, 0, length, chunkSize));
+        } catch (final UncheckedConversionException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("MissingJavaDocType")
+    @FunctionalInterface
+    public interface RangeTask {
+
+        @SuppressWarnings("MissingJavaDocMethod")
+        void run(int from, int to) throws ConversionException;
+
+    }
+
+    private static final class RangeAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 4183025571949620388L;
+
+        private final RangeTask task;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        private RangeAction(final RangeTask task, final int from, final int to, final int chunkSize) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.chunkSize) {
+                try {
+                    this.task.run(this.from, this.to);
+                } catch (final ConversionException e) {
+                    throw new UncheckedConversionException(e);
+                }
+                return;
+            }
+
+            final int middle = (this.from + this.to) >>> 1;
+            invokeAll(new RangeAction(this.task, this.from, middle, this.chunkSize), new RangeAction(this.task, middle, this.to, this.chunkSize));
+        }
+    }
+}
@@ -17,11 +17,34 @@
 package org.aero.conversion.core;
 
 import io.leangen.geantyref.TypeToken;
+import org.aero.conversion.core.annotation.Alias;
+import org.aero.conversion.core.converter.Converter;
+import org.aero.conversion.core.converter.ConverterFactory;
 import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.exception.ConversionFailedException;
+import org.aero.conversion.core.exception.NullElementException;
+import org.aero.conversion.core.exception.UncheckedConversionException;
+import org.aero.conversion.core.listener.InMemoryConversionListener;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Currency;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
 
 class ConversionBusTest {
 
@@ -44,8 +67,402 @@ void test() {
         }
     }
 
+    @Test
+    void testConverterPrecedence() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.create();
+        conversionBus.register(Number.class, String.class, (source, sourceType, targetType) -> "first");
+        conversionBus.register(Integer.class, String.class, (source, sourceType, targetType) -> "second");
+        Assertions.assertEquals("second", conversionBus.convert(1, String.class));
+        Assertions.assertEquals("first", conversionBus.convert(1L, String.class));
+
+        conversionBus.register(Number.class, String.class, (source, sourceType, targetType) -> "third");
+        Assertions.assertEquals("second", conversionBus.convert(1, String.class));
+        Assertions.assertEquals("third", conversionBus.convert(1L, String.class));
+    }
+
+    @Test
+    void testUnrelatedRegistrationKeepsCachedResolutions() throws ConversionException {
+        final InMemoryConversionListener listener = new InMemoryConversionListener(1);
+        final ConversionBus conversionBus = ConversionBus.builder().listener(listener).build();
+        Assertions.assertEquals(1, conversionBus.convert("1", Integer.class));
+        Assertions.assertEquals(1, listener.cacheMisses());
+
+        conversionBus.register(UUID.class, Locale.class, (source, type, target) -> Locale.ROOT);
+        Assertions.assertEquals(2, conversionBus.convert("2", Integer.class));
+        Assertions.assertEquals(1, listener.cacheMisses());
+        Assertions.assertEquals(1, listener.cacheHits());
+
+        // collection lookups depend on the element converters, so they are resolved again
+        final TypeToken<List<String>> sourceType = new TypeToken<>() {
+        };
+        final TypeToken<List<Integer>> targetType = new TypeToken<>() {
+        };
+        Assertions.assertTrue(conversionBus.canConvert(sourceType, targetType));
+        conversionBus.register(UUID.class, Currency.class, (source, type, target) -> Currency.getInstance(Locale.US));
+        final long misses = listener.cacheMisses();
+        Assertions.assertTrue(conversionBus.canConvert(sourceType, targetType));
+        Assertions.assertTrue(listener.cacheMisses() > misses);
+    }
+
+    @Test
+    void testCovariantArrayTargets() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.create();
+        conversionBus.register(Object.class, Object[].class, new ConverterFactory<Object, Object>() {
+            @Override
+            public <V> @NotNull Converter<Object, V> create(final Class<V> type) {
+                return (source, sourceType, targetType) -> {
+                    final Object[] array = (Object[]) Array.newInstance(type.getComponentType(), 1);
+                    array[0] = source;
+                    return type.cast(array);
+                };
+            }
+        });
+
+        Assertions.assertArrayEquals(new Object[] {"a"}, conversionBus.convert("a", String[].class));
+        Assertions.assertArrayEquals(new Object[] {"a"}, conversionBus.convert("a", CharSequence[].class));
+        Assertions.assertArrayEquals(new Object[] {1}, conversionBus.convert(1, Number[].class));
+        Assertions.assertInstanceOf(Integer[].class, conversionBus.convert(1, Integer[].class));
+        Assertions.assertFalse(conversionBus.canConvert(String.class, int[].class));
+    }
+
+    @Test
+    void testDefaultConvertersCanBeReplaced() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.createDefault();
+        Assertions.assertFalse(conversionBus.convert("no", Boolean.class));
+
+        conversionBus.register(String.class, Boolean.class, (source, sourceType, targetType) -> !source.isEmpty());
+        Assertions.assertTrue(conversionBus.convert("no", Boolean.class));
+    }
+
+    @Test
+    void testAssignableTypesAreNotConverted() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.createDefault();
+        final String source = "value";
+
+        Assertions.assertSame(source, conversionBus.convert(source, String.class, CharSequence.class));
+        Assertions.assertFalse(conversionBus.canConvert(Object.class, String.class));
+    }
+
+    @Test
+    void testRegistrationUpdatesCachedLookups() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.createDefault();
+        final TypeToken<List<Mood>> sourceType = new TypeToken<>() {
+        };
+        final TypeToken<List<Lol>> targetType = new TypeToken<>() {
+        };
+
+        Assertions.assertFalse(conversionBus.canConvert(Mood.class, Lol.class));
+        Assertions.assertFalse(conversionBus.canConvert(sourceType, targetType));
+
+        conversionBus.register(Mood.class, Lol.class, (source, type, target) -> new Lol(source.name()));
+
+        Assertions.assertTrue(conversionBus.canConvert(Mood.class, Lol.class));
+        Assertions.assertTrue(conversionBus.canConvert(sourceType, targetType));
+        Assertions.assertEquals("SAD", conversionBus.convert(List.of(Mood.SAD), sourceType, targetType).get(0).name);
+    }
+
+    @Test
+    void testPlan() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.createDefault();
+        final ConversionPlan<Map<String, String>, Map<Integer, Long>> plan = conversionBus.plan(
+            new TypeToken<Map<String, String>>() {
+            },
+            new TypeToken<Map<Integer, Long>>() {
+            });
+
+        Assertions.assertEquals(Map.of(1, 2L, 3, 4L), plan.convert(Map.of("1", "2", "3", "4")));
+        Assertions.assertTrue(conversionBus.plan(String.class, CharSequence.class).isIdentity());
+        Assertions.assertEquals(42, conversionBus.plan(String.class, int.class).convert("42"));
+    }
+
+    @Test
+    void testCollectionWithoutElementChangesIsNotCopied() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.createDefault();
+        final List<String> source = List.of("a", "b");
+
+        Assertions.assertSame(source, conversionBus.convert(source, new TypeToken<List<String>>() {
+        }, new TypeToken<Collection<String>>() {
+        }));
+        Assertions.assertEquals(Set.of("a", "b"), conversionBus.convert(source, new TypeToken<List<String>>() {
+        }, new TypeToken<Set<String>>() {
+        }));
+    }
+
+    @Test
+    void testConvertToObjectKeepsObjectTypes() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.createDefault();
+
+        Assertions.assertEquals(100_000, conversionBus.convertToObject(100_000));
+        Assertions.assertEquals("yes", conversionBus.convertToObject("yes"));
+        Assertions.assertEquals(0, conversionBus.convertToObject(Mood.HAPPY));
+    }
+
+    @Test
+    void testConvertToObjectFallsBackToWiderTypes() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.createDefault();
+
+        Assertions.assertEquals((short) 12, conversionBus.convertToObject(12.0));
+        Assertions.assertEquals(100_000, conversionBus.convertToObject(100_000.0));
+        Assertions.assertEquals(40_000, conversionBus.convertToObject(40_000f));
+        Assertions.assertEquals(100_000, conversionBus.convertToObject(BigInteger.valueOf(100_000)));
+        Assertions.assertEquals("1E+30", conversionBus.convertToObject(new BigDecimal("1E30")));
+    }
+
+    @Test
+    void testFailuresWithoutExceptions() {
+        final ConversionBus conversionBus = ConversionBus.builder().lightweightExceptions(true).build();
+
+        final ConversionResult<Integer> result = conversionBus.tryConvert("not a number", Integer.class);
+        Assertions.assertFalse(result.isSuccess());
+        Assertions.assertEquals(-1, result.orElse(-1));
+        Assertions.assertEquals(42, conversionBus.tryConvert("42", Integer.class).orElse(-1));
+        Assertions.assertFalse(conversionBus.tryConvert("UNKNOWN", Mood.class).isSuccess());
+        Assertions.assertFalse(conversionBus.tryConvert("not-a-uuid", UUID.class).isSuccess());
+
+        final UUID uuid = UUID.randomUUID();
+        Assertions.assertEquals(uuid, conversionBus.tryConvert(uuid.toString().toUpperCase(Locale.ROOT), UUID.class).value());
+
+        final ConversionFailedException exception = Assertions.assertThrows(ConversionFailedException.class,
+            () -> conversionBus.convert("maybe", Boolean.class));
+        Assertions.assertEquals(0, exception.getStackTrace().length);
+
+        final ConversionException failure = Assertions.assertThrows(ConversionException.class, result::orElseThrow);
+        Assertions.assertEquals(0, failure.getStackTrace().length);
+    }
+
+    @Test
+    void testNumberParsing() {
+        final ConversionBus conversionBus = ConversionBus.createDefault();
+
+        Assertions.assertEquals(Long.MIN_VALUE, conversionBus.tryConvert("-9223372036854775808", Long.class).value());
+        Assertions.assertEquals(Long.MIN_VALUE, conversionBus.tryConvert("-09223372036854775808", Long.class).value());
+        Assertions.assertFalse(conversionBus.tryConvert("-9223372036854775809", Long.class).isSuccess());
+        Assertions.assertEquals(Integer.MIN_VALUE, conversionBus.tryConvert("-002147483648", Integer.class).value());
+        Assertions.assertEquals(BigInteger.valueOf(-42), conversionBus.tryConvert("-42", BigInteger.class).value());
+        Assertions.assertEquals(42, conversionBus.tryConvert("+42", Integer.class).value());
+        Assertions.assertFalse(conversionBus.tryConvert("9223372036854775808", Long.class).isSuccess());
+        Assertions.assertFalse(conversionBus.tryConvert("128", Byte.class).isSuccess());
+        Assertions.assertEquals(42, conversionBus.tryConvert(" 42\t", Integer.class).value());
+        Assertions.assertFalse(conversionBus.tryConvert("4 2", Integer.class).isSuccess());
+        Assertions.assertEquals(new BigDecimal("1.50"), conversionBus.tryConvert("1.50", Number.class).value());
+        Assertions.assertEquals(Double.valueOf(0.1), conversionBus.tryConvert("0.1", Double.class).value());
+    }
+
+    @Test
+    void testPrimitiveConversions() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.createDefault();
+
+        Assertions.assertEquals(42, conversionBus.convertToInt(" 42 "));
+        Assertions.assertEquals(42, conversionBus.convertToInt(42L));
+        Assertions.assertEquals(Long.MIN_VALUE, conversionBus.convertToLong("-9223372036854775808"));
+        Assertions.assertEquals(Long.MIN_VALUE, conversionBus.convertToLong("-09223372036854775808"));
+        Assertions.assertEquals(-5, conversionBus.convertToInt("-\u0665"));
+        Assertions.assertEquals(1.5, conversionBus.convertToDouble("1.5"));
+        Assertions.assertTrue(conversionBus.convertToBoolean("yes"));
+        Assertions.assertEquals(42, conversionBus.plan(String.class, int.class).convertToInt("42"));
+        Assertions.assertThrows(ConversionFailedException.class, () -> conversionBus.convertToInt(1L << 40));
+        Assertions.assertThrows(ConversionException.class, () -> conversionBus.convertToInt(new Object()));
+    }
+
+    @Test
+    void testPlansWidenPrimitiveResults() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.createDefault();
+        final ConversionPlan<String, Short> plan = conversionBus.plan(String.class, Short.class);
+
+        Assertions.assertEquals(5, plan.convertToInt("5"));
+        Assertions.assertEquals(5L, plan.convertToLong("5"));
+        Assertions.assertEquals(5.0, plan.convertToDouble("5"));
+        Assertions.assertThrows(ConversionFailedException.class, () -> plan.convertToBoolean("5"));
+        Assertions.assertThrows(ConversionFailedException.class, () -> conversionBus.plan(String.class, Long.class).convertToInt("5"));
+    }
+
+    @Test
+    void testConvertAll() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.builder().parallelismThreshold(1_000).build();
+        final Object[] sources = new Object[10_000];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = Integer.toString(i);
+        }
+
+        final int[] ints = new int[sources.length];
+        conversionBus.convertAll(sources, String.class, ints);
+        Assertions.assertEquals(9_999, ints[9_999]);
+
+        final Object[] longs = new Object[sources.length];
+        conversionBus.convertAll(sources, String.class, Long.class, longs);
+        Assertions.assertEquals(1_234L, longs[1_234]);
+
+        sources[5_000] = "not a number";
+        Assertions.assertThrows(ConversionFailedException.class, () -> conversionBus.convertAll(sources, String.class, ints));
+    }
+
+    @Test
+    void testConvertAllNullElementWithoutStackTrace() {
+        final ConversionBus conversionBus = ConversionBus.builder().lightweightExceptions(true).build();
+
+        final ConversionException exception = Assertions.assertThrows(ConversionException.class,
+            () -> conversionBus.convertAll(new Object[] {"1", null}, String.class, new int[2]));
+        Assertions.assertTrue(exception.getMessage().contains("index 1"));
+        Assertions.assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void testArrayConversions() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.createDefault();
+        final String[] strings = {"1", "2"};
+
+        Assertions.assertArrayEquals(new int[] {1, 2}, conversionBus.convert(strings, int[].class));
+        Assertions.assertArrayEquals(new String[] {"1", "2"}, conversionBus.convert(new long[] {1L, 2L}, String[].class));
+        Assertions.assertSame(strings, conversionBus.convert(strings, CharSequence[].class));
+        Assertions.assertEquals(List.of(1L, 1L), conversionBus.convert(new int[] {1, 1}, int[].class, new TypeToken<List<Long>>() {
+        }.getType()));
+        Assertions.assertArrayEquals(new double[] {1, 2}, (double[]) conversionBus.convert(List.of("1", "2"), new TypeToken<List<String>>() {
+        }.getType(), double[].class));
+    }
+
+    @Test
+    void testArrayNullElements() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.builder().lightweightExceptions(true).build();
+        final List<String> strings = Arrays.asList("1", null);
+        final Type sourceType = new TypeToken<List<String>>() {
+        }.getType();
+
+        // the identity copy and the converting path agree on keeping nulls in reference arrays
+        Assertions.assertArrayEquals(new String[] {"1", null}, (String[]) conversionBus.convert(strings, sourceType, String[].class));
+        Assertions.assertArrayEquals(new Integer[] {1, null}, (Integer[]) conversionBus.convert(strings, sourceType, Integer[].class));
+        Assertions.assertArrayEquals(new Integer[] {1, null}, conversionBus.convert(new String[] {"1", null}, Integer[].class));
+
+        final NullElementException exception = Assertions.assertThrows(NullElementException.class,
+            () -> conversionBus.convert(strings, sourceType, int[].class));
+        Assertions.assertEquals(1, exception.index());
+        Assertions.assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void testParallelCollectionConversion() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.builder().parallelismThreshold(1_000).build();
+        final TypeToken<List<String>> sourceType = new TypeToken<>() {
+        };
+        final TypeToken<List<Integer>> targetType = new TypeToken<>() {
+        };
+        final List<String> source = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            source.add(Integer.toString(i));
+        }
+
+        final List<Integer> target = conversionBus.convert(source, sourceType, targetType);
+        for (int i = 0; i < target.size(); i++) {
+            Assertions.assertEquals(i, target.get(i));
+        }
+
+        source.set(30_000, "not a number");
+        Assertions.assertThrows(ConversionFailedException.class, () -> conversionBus.convert(source, sourceType, targetType));
+    }
+
+    @Test
+    void testLazyViews() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.builder().lazyViews(ConversionBus.LazyViews.MEMOIZED).build();
+        final List<Integer> list = conversionBus.convert(List.of("1", "x"), new TypeToken<List<String>>() {
+        }, new TypeToken<List<Integer>>() {
+        });
+
+        Assertions.assertEquals(1, list.get(0));
+        final UncheckedConversionException unchecked = Assertions.assertThrows(UncheckedConversionException.class, () -> list.get(1));
+        Assertions.assertEquals(unchecked.getCause().getMessage(), unchecked.getMessage());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list.add(2));
+
+        final Map<String, Long> map = conversionBus.convert(Map.of("a", "1"), new TypeToken<Map<String, String>>() {
+        }, new TypeToken<Map<String, Long>>() {
+        });
+        Assertions.assertEquals(1L, map.get("a"));
+        Assertions.assertEquals(Map.of("a", 1L), map);
+    }
+
+    @Test
+    void testMapConversionCopiesOnFirstChange() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.createDefault();
+        final Map<String, Number> source = new LinkedHashMap<>();
+        source.put("a", 1L);
+        source.put("b", 2);
+        source.put("c", 3L);
+
+        final Map<String, Long> target = conversionBus.convert(source, new TypeToken<Map<String, Number>>() {
+        }, new TypeToken<Map<String, Long>>() {
+        });
+        Assertions.assertEquals(List.of("a", "b", "c"), List.copyOf(target.keySet()));
+        Assertions.assertEquals(2L, target.get("b"));
+        Assertions.assertInstanceOf(TreeMap.class, conversionBus.convert(source, new TypeToken<Map<String, Number>>() {
+        }, new TypeToken<TreeMap<String, Long>>() {
+        }));
+    }
+
+    @Test
+    void testEnumLookup() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.builder().lightweightExceptions(true).build();
+        Assertions.assertEquals(Mood.HAPPY, conversionBus.convert(" HAPPY ", Mood.class));
+        Assertions.assertEquals(Mood.HAPPY, conversionBus.convert("glad", Mood.class));
+        Assertions.assertThrows(ConversionFailedException.class, () -> conversionBus.convert("happy", Mood.class));
+
+        final ConversionBus caseInsensitive = ConversionBus.builder().caseInsensitiveEnums(true).build();
+        Assertions.assertEquals(Mood.HAPPY, caseInsensitive.convert("happy", Mood.class));
+        Assertions.assertEquals(Mood.HAPPY, caseInsensitive.convert(" GLAD", Mood.class));
+        Assertions.assertEquals(1, caseInsensitive.convertToInt(Mood.SAD));
+    }
+
+    @Test
+    void testBooleanTokens() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.builder().build();
+        Assertions.assertTrue(conversionBus.convertToBoolean(" YES "));
+        Assertions.assertFalse(conversionBus.convert("Off", Boolean.class));
+        Assertions.assertFalse(conversionBus.tryConvert("enabled", Boolean.class).isSuccess());
+
+        final ConversionBus custom = ConversionBus.builder()
+            .booleanTokens(Set.of("enabled", "true"), Set.of("disabled", "false"))
+            .build();
+        Assertions.assertTrue(custom.convertToBoolean("Enabled"));
+        Assertions.assertFalse(custom.convert("DISABLED ", Boolean.class));
+        Assertions.assertFalse(custom.tryConvert("yes", Boolean.class).isSuccess());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ConversionBus.builder()
+            .booleanTokens(Set.of("on"), Set.of("ON"))
+            .build());
+    }
+
+    @Test
+    void testNumberConversions() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.builder().lightweightExceptions(true).build();
+        Assertions.assertEquals(5L, conversionBus.convert(5, Integer.class, Long.class));
+        Assertions.assertEquals(new BigDecimal("0.1"), conversionBus.convert(0.1F, Float.class, BigDecimal.class));
+        Assertions.assertEquals(new BigDecimal("0.1"), conversionBus.convert(0.1D, Double.class, BigDecimal.class));
+        Assertions.assertEquals(new BigDecimal("12"), conversionBus.convert(12L, Long.class, BigDecimal.class));
+        Assertions.assertEquals(Long.MIN_VALUE, conversionBus.convert(BigInteger.valueOf(Long.MIN_VALUE), BigInteger.class, Long.class));
+        Assertions.assertFalse(conversionBus.tryConvert(BigInteger.TWO.pow(64), BigInteger.class, Long.class).isSuccess());
+        Assertions.assertFalse(conversionBus.tryConvert(300, Integer.class, Byte.class).isSuccess());
+        Assertions.assertFalse(conversionBus.tryConvert(Double.NaN, Double.class, BigDecimal.class).isSuccess());
+    }
+
+    @Test
+    void testListener() throws ConversionException {
+        final InMemoryConversionListener listener = new InMemoryConversionListener(1);
+        final ConversionBus conversionBus = ConversionBus.builder().lightweightExceptions(true).listener(listener).build();
+        conversionBus.convert("1", Integer.class);
+        conversionBus.convert("2", Integer.class);
+        Assertions.assertEquals(3, conversionBus.plan(String.class, Integer.class).convertToInt("3"));
+        Assertions.assertThrows(ConversionFailedException.class, () -> conversionBus.convert("x", Integer.class));
+        Assertions.assertFalse(conversionBus.tryConvert("x", Integer.class).isSuccess());
+
+        final InMemoryConversionListener.Timing timing = listener.conversions()
+            .get(new InMemoryConversionListener.Conversion(String.class, Integer.class));
+        Assertions.assertEquals(3, timing.count());
+        Assertions.assertEquals(3, timing.sampled());
+        Assertions.assertTrue(timing.quantileNanos(0.5) > 0);
+        Assertions.assertEquals(2L, listener.failures().get(ConversionFailedException.class));
+        Assertions.assertEquals(1, listener.cacheMisses());
+        Assertions.assertEquals(4, listener.cacheHits());
+    }
+
     enum Mood {
 
+        @Alias("glad")
         HAPPY,
         SAD
 
@@ -27,7 +27,7 @@
 public final class ObjectMappingConversionBus extends DefaultConversionBus {
 
     private ObjectMappingConversionBus() {
-        this.register();
+
     }
 
     @SuppressWarnings("MissingJavaDocMethod")
@@ -79,6 +79,20 @@ interface Builder extends IBuilder<Factory> {
             @SuppressWarnings("MissingJavaDocMethod")
             @NotNull Builder conversionBus(@NotNull ConversionBus conversionBus);
 
+            @SuppressWarnings("MissingJavaDocMethod")
+            @NotNull Builder maximumMappers(int maximumMappers);
+
+            @SuppressWarnings("MissingJavaDocMethod")
+            @NotNull Builder evictionPolicy(@NotNull EvictionPolicy evictionPolicy);
+
+        }
+
+        @SuppressWarnings({"MissingJavaDocType", "JavaDocVariable"})
+        enum EvictionPolicy {
+
+            LEAST_RECENTLY_USED,
+            FIRST_IN_FIRST_OUT
+
         }
     }
 }
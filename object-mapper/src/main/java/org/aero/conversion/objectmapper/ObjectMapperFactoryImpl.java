@@ -20,6 +20,7 @@
 import org.aero.common.core.validate.Check;
 import org.aero.conversion.core.ConversionBus;
 import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.objectmapper.ObjectMapper.Factory.EvictionPolicy;
 import org.aero.conversion.objectmapper.discoverer.FieldDiscoverer;
 import org.aero.conversion.objectmapper.exception.ObjectMapperException;
 import org.aero.conversion.objectmapper.exception.ObjectMapperNotFoundException;
@@ -28,27 +29,35 @@
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
 
 final class ObjectMapperFactoryImpl implements ObjectMapper.Factory {
 
-    static final ObjectMapper.Factory INSTANCE = ObjectMapper.factoryBuilder().addDiscoverer(FieldDiscoverer.create()).build();
-    private static final int MAXIMUM_MAPPERS_SIZE = 64;
+    static final ObjectMapper.Factory INSTANCE = ObjectMapper.factoryBuilder()
+        .addDiscoverer(FieldDiscoverer.constructorBased())
+        .addDiscoverer(FieldDiscoverer.create())
+        .build();
+    private static final int DEFAULT_MAXIMUM_MAPPERS = 256;
 
-    private final Map<Type, ObjectMapper<?>> mappers = new LinkedHashMap<>() {
-        @Override
-        protected boolean removeEldestEntry(final Map.Entry<Type, ObjectMapper<?>> eldest) {
-            return this.size() > MAXIMUM_MAPPERS_SIZE;
-        }
-    };
+    private final Map<Type, CacheEntry> mappers = new ConcurrentHashMap<>();
+    // logical clock of the cache, it only advances when an entry becomes the most recent one
+    private final AtomicLong clock = new AtomicLong();
     private final List<FieldDiscoverer<?>> fieldDiscoverers;
     private final ConversionBus conversionBus;
+    private final int maximumMappers;
+    private final EvictionPolicy evictionPolicy;
 
     ObjectMapperFactoryImpl(final BuilderImpl builder) {
         this.fieldDiscoverers = new ArrayList<>(builder.discoverer);
         this.conversionBus = builder.conversionBus;
+        this.maximumMappers = builder.maximumMappers;
+        this.evictionPolicy = builder.evictionPolicy;
     }
 
     @Override
@@ -58,22 +67,51 @@ protected boolean removeEldestEntry(final Map.Entry<Type, ObjectMapper<?>> eldes
             throw new ObjectMapperException(type, "Raw types are not supported!");
         }
 
-        synchronized (this.mappers) {
-            ObjectMapper<?> objectMapper = this.mappers.get(type);
+        final CacheEntry cached = this.mappers.get(type);
+        if (cached != null) {
+            return cached.mapper(this.evictionPolicy, this.clock);
+        }
+
+        // discovery runs outside any lock; concurrent callers for the same type wait for the first one
+        final CacheEntry created = new CacheEntry(new FutureTask<>(() -> this.discover(type)), this.clock.incrementAndGet());
+        final CacheEntry raced = this.mappers.putIfAbsent(type, created);
+        if (raced != null) {
+            return raced.mapper(this.evictionPolicy, this.clock);
+        }
+
+        created.task.run();
+        try {
+            final ObjectMapper<?> objectMapper = created.mapper(this.evictionPolicy, this.clock);
+            this.evict();
+            return objectMapper;
+        } catch (final ConversionException | RuntimeException | Error e) {
+            this.mappers.remove(type, created);
+            throw e;
+        }
+    }
 
+    private ObjectMapper<?> discover(final Type type) throws ConversionException {
+        for (final FieldDiscoverer<?> discoverer : this.fieldDiscoverers) {
+            final ObjectMapper<?> objectMapper = this.createMapper(type, discoverer);
             if (objectMapper != null) {
                 return objectMapper;
             }
+        }
 
-            for (final FieldDiscoverer<?> discoverer : this.fieldDiscoverers) {
-                objectMapper = this.createMapper(type, discoverer);
-                if (objectMapper != null) {
-                    this.mappers.put(type, objectMapper);
-                    return objectMapper;
-                }
-            }
+        throw new ObjectMapperNotFoundException(type);
+    }
 
-            throw new ObjectMapperNotFoundException(type);
+    // evicts a batch at once, so a full cache is not scanned again on every following miss
+    private void evict() {
+        if (this.mappers.size() <= this.maximumMappers) {
+            return;
+        }
+
+        final List<Map.Entry<Type, CacheEntry>> entries = new ArrayList<>(this.mappers.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().stamp(this.evictionPolicy)));
+        final int retained = this.maximumMappers - this.maximumMappers / 8;
+        for (int i = 0; i < entries.size() - retained; i++) {
+            this.mappers.remove(entries.get(i).getKey(), entries.get(i).getValue());
         }
     }
 
@@ -87,10 +125,54 @@ private <T, U> ObjectMapper<T> createMapper(final Type type, final FieldDiscover
         return new ObjectMapperImpl<>(type, result.fieldData(), result.instanceFactory(), this.conversionBus);
     }
 
+    private static final class CacheEntry {
+
+        private final FutureTask<ObjectMapper<?>> task;
+        private final long created;
+        private volatile long lastAccess;
+
+        private CacheEntry(final FutureTask<ObjectMapper<?>> task, final long created) {
+            this.task = task;
+            this.created = created;
+            this.lastAccess = created;
+        }
+
+        private ObjectMapper<?> mapper(final EvictionPolicy evictionPolicy, final AtomicLong clock) throws ConversionException {
+            // repeated hits on the most recent entry leave the stamp untouched and do not write at all
+            if (evictionPolicy == EvictionPolicy.LEAST_RECENTLY_USED && this.lastAccess != clock.get()) {
+                this.lastAccess = clock.incrementAndGet();
+            }
+
+            try {
+                return this.task.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ObjectMapperException(e);
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof ConversionException conversionException) {
+                    throw conversionException;
+                }
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new ObjectMapperException(e.getCause());
+            }
+        }
+
+        private long stamp(final EvictionPolicy evictionPolicy) {
+            return evictionPolicy == EvictionPolicy.LEAST_RECENTLY_USED ? this.lastAccess : this.created;
+        }
+    }
+
     static final class BuilderImpl implements ObjectMapper.Factory.Builder {
 
         private final List<FieldDiscoverer<?>> discoverer = new ArrayList<>();
         private ConversionBus conversionBus = ConversionBus.createDefault();
+        private int maximumMappers = DEFAULT_MAXIMUM_MAPPERS;
+        private EvictionPolicy evictionPolicy = EvictionPolicy.LEAST_RECENTLY_USED;
 
         @Override
         public @NotNull Builder addDiscoverer(@NotNull final FieldDiscoverer<?> discoverer) {
@@ -104,6 +186,22 @@ static final class BuilderImpl implements ObjectMapper.Factory.Builder {
             return this;
         }
 
+        @Override
+        public @NotNull Builder maximumMappers(final int maximumMappers) {
+            if (maximumMappers <= 0) {
+                throw new IllegalArgumentException("maximumMappers must be positive");
+            }
+            this.maximumMappers = maximumMappers;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder evictionPolicy(@NotNull final EvictionPolicy evictionPolicy) {
+            Check.notNull(evictionPolicy, "evictionPolicy");
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
         @Override
         public ObjectMapper.@UnknownNullability Factory build() {
             return new ObjectMapperFactoryImpl(this);
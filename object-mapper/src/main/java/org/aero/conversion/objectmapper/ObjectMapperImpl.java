@@ -17,13 +17,16 @@
 package org.aero.conversion.objectmapper;
 
 import io.leangen.geantyref.GenericTypeReflector;
-import org.aero.common.core.function.ThrowableFunction;
 import org.aero.common.core.validate.Check;
 import org.aero.conversion.core.ConversionBus;
+import org.aero.conversion.core.ConversionPlan;
 import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.exception.UncheckedConversionException;
+import org.aero.conversion.core.listener.ConversionListener;
 import org.aero.conversion.objectmapper.discoverer.FieldDiscoverer;
 import org.aero.conversion.objectmapper.exception.ObjectMapperException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.util.Collections;
@@ -36,56 +39,97 @@
 
     private final Type type;
     private final List<FieldDiscoverer.FieldData<T, U>> fieldData;
+    private final BoundField<T, U>[] boundFields;
     private final FieldDiscoverer.InstanceFactory<U> instanceFactory;
     private final ConversionBus conversionBus;
+    private final ConversionListener listener;
 
     ObjectMapperImpl(final Type type, final List<FieldDiscoverer.FieldData<T, U>> fieldData, final FieldDiscoverer.InstanceFactory<U> instanceFactory,
         final ConversionBus conversionBus
     ) {
         this.type = type;
         this.fieldData = Collections.unmodifiableList(fieldData);
+        this.boundFields = (BoundField<T, U>[]) new BoundField<?, ?>[fieldData.size()];
+        for (int i = 0; i < this.boundFields.length; i++) {
+            this.boundFields[i] = new BoundField<>(fieldData.get(i));
+        }
         this.instanceFactory = instanceFactory;
         this.conversionBus = conversionBus;
+        this.listener = conversionBus.listener();
     }
 
     @Override
     public @NotNull T load(@NotNull final Map<String, Object> source) throws ConversionException {
         Check.notNull(source, "source");
-        return this.load(source, intermediate -> (T) this.instanceFactory.complete(intermediate));
+        final long start = this.start();
+        try {
+            final T value = (T) this.instanceFactory.complete(this.load(source, this.instanceFactory.begin()));
+            this.listener.loaded(this.type, this.elapsed(start));
+            return value;
+        } catch (final ConversionException e) {
+            this.listener.failed(Map.class, this.type, e.getClass());
+            throw e;
+        }
     }
 
     @Override
     public void load(@NotNull final T value, @NotNull final Map<String, Object> source) throws ConversionException {
         Check.notNull(value, "value");
         Check.notNull(source, "source");
-        this.load(source, intermediate -> {
-            this.instanceFactory.complete(value, intermediate);
-            return value;
-        });
+        final long start = this.start();
+        try {
+            if (this.instanceFactory instanceof FieldDiscoverer.MutableInstanceFactory<U> mutableInstanceFactory) {
+                // every field is converted before the first one is written, so a failed conversion leaves the instance unchanged
+                this.apply(mutableInstanceFactory.begin(value), this.convert(source));
+            } else {
+                this.instanceFactory.complete(value, this.load(source, this.instanceFactory.begin()));
+            }
+            this.listener.loaded(this.type, this.elapsed(start));
+        } catch (final ConversionException e) {
+            this.listener.failed(Map.class, this.type, e.getClass());
+            throw e;
+        }
     }
 
-    private T load(final Map<String, Object> source, final ThrowableFunction<U, T, ConversionException> completer) throws ConversionException {
-        final U fieldData = this.instanceFactory.begin();
+    private U load(final Map<String, Object> source, final U fieldData) throws ConversionException {
+        try {
+            for (final BoundField<T, U> field : this.boundFields) {
+                final Object mapValue = source.get(field.data.name());
 
-        for (final FieldDiscoverer.FieldData<T, U> field : this.fieldData) {
-            final Object mapValue = source.get(field.name());
+                if (mapValue == null) {
+                    continue;
+                }
 
-            if (mapValue == null) {
-                continue;
+                field.load(fieldData, mapValue, this.conversionBus);
             }
+        } catch (final UncheckedConversionException e) {
+            throw e.getCause();
+        }
 
-            final Type fieldType = field.type();
-            final Class<?> erasedBoxedType = GenericTypeReflector.erase(GenericTypeReflector.box(fieldType));
-            final Object fieldValue = this.conversionBus.convert(mapValue, mapValue.getClass(), fieldType);
+        return fieldData;
+    }
 
-            if (!erasedBoxedType.isInstance(fieldValue)) {
-                throw new ObjectMapperException("Object " + fieldValue + " is not of expected type " + fieldType);
+    private Object[] convert(final Map<String, Object> source) throws ConversionException {
+        final Object[] values = new Object[this.boundFields.length];
+        for (int i = 0; i < this.boundFields.length; i++) {
+            final Object mapValue = source.get(this.boundFields[i].data.name());
+            if (mapValue != null) {
+                values[i] = this.boundFields[i].convert(mapValue, this.conversionBus);
             }
-
-            field.deserializer().accept(fieldData, fieldValue);
         }
+        return values;
+    }
 
-        return completer.apply(fieldData);
+    private void apply(final U fieldData, final Object[] values) throws ConversionException {
+        try {
+            for (int i = 0; i < this.boundFields.length; i++) {
+                if (values[i] != null) {
+                    this.boundFields[i].data.deserializer().accept(fieldData, values[i]);
+                }
+            }
+        } catch (final UncheckedConversionException e) {
+            throw e.getCause();
+        }
     }
 
     @Override
@@ -101,6 +145,17 @@ private T load(final Map<String, Object> source, final ThrowableFunction<U, T, C
     public void save(@NotNull final Map<String, Object> target, @NotNull final T value) throws ConversionException {
         Check.notNull(target, "target");
         Check.notNull(value, "value");
+        final long start = this.start();
+        try {
+            this.saveFields(value, target);
+            this.listener.saved(this.type, this.elapsed(start));
+        } catch (final ConversionException e) {
+            this.listener.failed(this.type, Map.class, e.getClass());
+            throw e;
+        }
+    }
+
+    private void saveFields(final T value, final Map<String, Object> target) throws ConversionException {
         for (final FieldDiscoverer.FieldData<T, U> fieldData : this.fieldData) {
             try {
                 final Object fieldValue = fieldData.serializer().apply(value);
@@ -118,4 +173,103 @@ public void save(@NotNull final Map<String, Object> target, @NotNull final T val
             }
         }
     }
+
+    private long start() {
+        return this.listener.sample() ? System.nanoTime() : ConversionListener.UNTIMED;
+    }
+
+    private long elapsed(final long start) {
+        return start == ConversionListener.UNTIMED ? ConversionListener.UNTIMED : System.nanoTime() - start;
+    }
+
+    private static final class BoundField<T, U> {
+
+        private final FieldDiscoverer.FieldData<T, U> data;
+        private final Class<?> erasedBoxedType;
+        // bimorphic inline cache of plans keyed by the runtime class of the source values and the registry version of the bus
+        private volatile CachedPlans plans = CachedPlans.EMPTY;
+
+        private BoundField(final FieldDiscoverer.FieldData<T, U> data) {
+            this.data = data;
+            this.erasedBoxedType = GenericTypeReflector.erase(GenericTypeReflector.box(data.type()));
+        }
+
+        private void load(final U instance, final Object source, final ConversionBus conversionBus) throws ConversionException {
+            final Class<?> sourceType = source.getClass();
+            final ConversionPlan<Object, Object> plan = this.plan(sourceType, conversionBus);
+            final FieldDiscoverer.FieldData.Deserializer<U> deserializer = this.data.deserializer();
+
+            // primitive fields with a specialized setter are converted and written without boxing
+            if (deserializer instanceof FieldDiscoverer.FieldData.IntDeserializer<U> intDeserializer) {
+                intDeserializer.acceptInt(instance, plan == null ? conversionBus.convertToInt(source, sourceType) : plan.convertToInt(source));
+                return;
+            } else if (deserializer instanceof FieldDiscoverer.FieldData.LongDeserializer<U> longDeserializer) {
+                longDeserializer.acceptLong(instance, plan == null ? conversionBus.convertToLong(source, sourceType) : plan.convertToLong(source));
+                return;
+            } else if (deserializer instanceof FieldDiscoverer.FieldData.DoubleDeserializer<U> doubleDeserializer) {
+                doubleDeserializer.acceptDouble(instance,
+                    plan == null ? conversionBus.convertToDouble(source, sourceType) : plan.convertToDouble(source));
+                return;
+            } else if (deserializer instanceof FieldDiscoverer.FieldData.BooleanDeserializer<U> booleanDeserializer) {
+                booleanDeserializer.acceptBoolean(instance,
+                    plan == null ? conversionBus.convertToBoolean(source, sourceType) : plan.convertToBoolean(source));
+                return;
+            }
+
+            deserializer.accept(instance, this.convert(source, sourceType, plan, conversionBus));
+        }
+
+        private Object convert(final Object source, final ConversionBus conversionBus) throws ConversionException {
+            final Class<?> sourceType = source.getClass();
+            return this.convert(source, sourceType, this.plan(sourceType, conversionBus), conversionBus);
+        }
+
+        private Object convert(final Object source, final Class<?> sourceType, @Nullable final ConversionPlan<Object, Object> plan,
+            final ConversionBus conversionBus
+        ) throws ConversionException {
+            final Object fieldValue = plan == null ? conversionBus.convert(source, sourceType, this.data.type()) : plan.convert(source);
+            if (!this.erasedBoxedType.isInstance(fieldValue)) {
+                throw new ObjectMapperException("Object " + fieldValue + " is not of expected type " + this.data.type());
+            }
+            return fieldValue;
+        }
+
+        private @Nullable ConversionPlan<Object, Object> plan(final Class<?> sourceType, final ConversionBus conversionBus)
+            throws ConversionException {
+            final int version = conversionBus.version();
+            CachedPlans plans = this.plans;
+            if (plans.version() != version) {
+                // converters were registered since the plans were made, they may no longer be the ones the bus would pick
+                plans = new CachedPlans(version, null, null);
+            } else {
+                final CachedPlan first = plans.first();
+                if (first != null && first.sourceType() == sourceType) {
+                    return first.plan();
+                }
+                final CachedPlan second = plans.second();
+                if (second != null && second.sourceType() == sourceType) {
+                    return second.plan();
+                }
+
+                // more than two source classes: stop caching and let the bus resolve every conversion
+                if (first != null && second != null) {
+                    return null;
+                }
+            }
+
+            final CachedPlan cachedPlan = new CachedPlan(sourceType, conversionBus.plan(sourceType, this.data.type()));
+            this.plans = plans.first() == null ? new CachedPlans(version, cachedPlan, null) : new CachedPlans(version, plans.first(), cachedPlan);
+            return cachedPlan.plan();
+        }
+    }
+
+    private record CachedPlan(Class<?> sourceType, ConversionPlan<Object, Object> plan) {
+
+    }
+
+    private record CachedPlans(int version, @Nullable CachedPlan first, @Nullable CachedPlan second) {
+
+        private static final CachedPlans EMPTY = new CachedPlans(-1, null, null);
+
+    }
 }
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.objectmapper.discoverer;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+// Hidden nestmate classes may access private members; all generated methods are straight-line code, so no stack map frames are needed
+final class AccessorGenerator {
+
+    private static final int CLASS_VERSION = 61;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int ILOAD_2 = 0x1c;
+    private static final int LLOAD_2 = 0x20;
+    private static final int DLOAD_2 = 0x28;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ALOAD_2 = 0x2c;
+    private static final int DUP = 0x59;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETFIELD = 0xb4;
+    private static final int PUTFIELD = 0xb5;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int NEW = 0xbb;
+    private static final int CHECKCAST = 0xc0;
+
+    private AccessorGenerator() {
+        throw new UnsupportedOperationException();
+    }
+
+    // reads through Function#apply, writes through BiConsumer#accept unless the field is final, primitives are boxed and unboxed.
+    // Writable int and boolean fields also implement ObjIntConsumer, long fields ObjLongConsumer and double fields ObjDoubleConsumer
+    @SuppressWarnings("unchecked")
+    static <T> T fieldAccessor(final MethodHandles.Lookup lookup, final Field field) throws ReflectiveOperationException {
+        final Class<?> owner = field.getDeclaringClass();
+        final Class<?> fieldType = field.getType();
+        final Class<?> boxedType = MethodType.methodType(fieldType).wrap().returnType();
+        final boolean writable = !Modifier.isFinal(field.getModifiers());
+        final Class<?> primitiveSetter = writable ? primitiveSetter(fieldType) : null;
+        final ClassWriter writer = !writable
+            ? new ClassWriter(owner, "FieldAccessor", Function.class)
+            : primitiveSetter == null
+            ? new ClassWriter(owner, "FieldAccessor", Function.class, BiConsumer.class)
+            : new ClassWriter(owner, "FieldAccessor", Function.class, BiConsumer.class, primitiveSetter);
+
+        final int fieldRef = writer.pool.member(9, owner, field.getName(), fieldType.descriptorString());
+
+        final Code get = writer.method("apply", "(Ljava/lang/Object;)Ljava/lang/Object;", 2, 2);
+        get.op(ALOAD_1).op(CHECKCAST, writer.pool.type(owner)).op(GETFIELD, fieldRef);
+        if (fieldType.isPrimitive()) {
+            get.op(INVOKESTATIC, writer.pool.member(10, boxedType, "valueOf",
+                "(" + fieldType.descriptorString() + ")" + boxedType.descriptorString()));
+        }
+        get.op(ARETURN);
+
+        if (!writable) {
+            return (T) writer.define(lookup);
+        }
+
+        final Code set = writer.method("accept", "(Ljava/lang/Object;Ljava/lang/Object;)V", 3, 3);
+        set.op(ALOAD_1).op(CHECKCAST, writer.pool.type(owner)).op(ALOAD_2).op(CHECKCAST, writer.pool.type(boxedType));
+        if (fieldType.isPrimitive()) {
+            set.op(INVOKEVIRTUAL, writer.pool.member(10, boxedType, fieldType.getName() + "Value", "()" + fieldType.descriptorString()));
+        }
+        set.op(PUTFIELD, fieldRef).op(RETURN);
+
+        if (primitiveSetter != null) {
+            // boolean fields take 0 or 1 from ObjIntConsumer, putfield on a boolean field stores the value & 1
+            final boolean wide = fieldType == long.class || fieldType == double.class;
+            final String parameter = fieldType == boolean.class ? "I" : fieldType.descriptorString();
+            final int load = fieldType == long.class ? LLOAD_2 : fieldType == double.class ? DLOAD_2 : ILOAD_2;
+            writer.method("accept", "(Ljava/lang/Object;" + parameter + ")V", wide ? 3 : 2, wide ? 4 : 3)
+                .op(ALOAD_1)
+                .op(CHECKCAST, writer.pool.type(owner))
+                .op(load)
+                .op(PUTFIELD, fieldRef)
+                .op(RETURN);
+        }
+
+        return (T) writer.define(lookup);
+    }
+
+    private static @Nullable Class<?> primitiveSetter(final Class<?> fieldType) {
+        if (fieldType == int.class || fieldType == boolean.class) {
+            return ObjIntConsumer.class;
+        } else if (fieldType == long.class) {
+            return ObjLongConsumer.class;
+        } else if (fieldType == double.class) {
+            return ObjDoubleConsumer.class;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Supplier<Object> instantiator(final MethodHandles.Lookup lookup, final Class<?> type) throws ReflectiveOperationException {
+        final ClassWriter writer = new ClassWriter(type, "Instantiator", Supplier.class);
+
+        writer.method("get", "()Ljava/lang/Object;", 2, 1)
+            .op(NEW, writer.pool.type(type))
+            .op(DUP)
+            .op(INVOKESPECIAL, writer.pool.member(10, type, "<init>", "()V"))
+            .op(ARETURN);
+
+        return (Supplier<Object>) writer.define(lookup);
+    }
+
+    private static String internalName(final Class<?> type) {
+        return type.isArray() ? type.descriptorString() : type.getName().replace('.', '/');
+    }
+
+    private static final class ClassWriter {
+
+        private final ConstantPool pool = new ConstantPool();
+        private final List<Code> methods = new ArrayList<>();
+        private final int thisClass;
+        private final int superClass;
+        private final int[] interfaces;
+
+        private ClassWriter(final Class<?> host, final String suffix, final Class<?>... interfaces) {
+            this.thisClass = this.pool.type(internalName(host) + "$$" + suffix);
+            this.superClass = this.pool.type(Object.class);
+            this.interfaces = new int[interfaces.length];
+            for (int i = 0; i < interfaces.length; i++) {
+                this.interfaces[i] = this.pool.type(interfaces[i]);
+            }
+
+            this.method("<init>", "()V", 1, 1)
+                .op(ALOAD_0)
+                .op(INVOKESPECIAL, this.pool.member(10, Object.class, "<init>", "()V"))
+                .op(RETURN);
+        }
+
+        private Code method(final String name, final String descriptor, final int maxStack, final int maxLocals) {
+            final Code code = new Code(this.pool.utf8(name), this.pool.utf8(descriptor), maxStack, maxLocals);
+            this.methods.add(code);
+            return code;
+        }
+
+        private Object define(final MethodHandles.Lookup lookup) throws ReflectiveOperationException {
+            final MethodHandles.Lookup hiddenLookup = lookup.defineHiddenClass(this.toByteArray(), true,
+                MethodHandles.Lookup.ClassOption.NESTMATE);
+
+            try {
+                return hiddenLookup.findConstructor(hiddenLookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new ReflectiveOperationException(e);
+            }
+        }
+
+        private byte[] toByteArray() {
+            final int codeAttribute = this.pool.utf8("Code");
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(0xCAFEBABE);
+                out.writeShort(0);
+                out.writeShort(CLASS_VERSION);
+                this.pool.write(out);
+
+                out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+                out.writeShort(this.thisClass);
+                out.writeShort(this.superClass);
+                out.writeShort(this.interfaces.length);
+                for (final int type : this.interfaces) {
+                    out.writeShort(type);
+                }
+
+                // fields
+                out.writeShort(0);
+
+                out.writeShort(this.methods.size());
+                for (final Code method : this.methods) {
+                    method.write(out, codeAttribute);
+                }
+
+                // attributes
+                out.writeShort(0);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            return bytes.toByteArray();
+        }
+    }
+
+    private static final class Code {
+
+        private final ByteArrayOutputStream code = new ByteArrayOutputStream(16);
+        private final int name;
+        private final int descriptor;
+        private final int maxStack;
+        private final int maxLocals;
+
+        private Code(final int name, final int descriptor, final int maxStack, final int maxLocals) {
+            this.name = name;
+            this.descriptor = descriptor;
+            this.maxStack = maxStack;
+            this.maxLocals = maxLocals;
+        }
+
+        private Code op(final int opcode) {
+            this.code.write(opcode);
+            return this;
+        }
+
+        private Code op(final int opcode, final int index) {
+            this.code.write(opcode);
+            this.code.write(index >>> 8);
+            this.code.write(index);
+            return this;
+        }
+
+        private void write(final DataOutputStream out, final int codeAttribute) throws IOException {
+            out.writeShort(ACC_PUBLIC);
+            out.writeShort(this.name);
+            out.writeShort(this.descriptor);
+            out.writeShort(1);
+
+            out.writeShort(codeAttribute);
+            // max_stack, max_locals, code_length, code, exception_table_length, attributes_count
+            out.writeInt(2 + 2 + 4 + this.code.size() + 2 + 2);
+            out.writeShort(this.maxStack);
+            out.writeShort(this.maxLocals);
+            out.writeInt(this.code.size());
+            this.code.writeTo(out);
+            out.writeShort(0);
+            out.writeShort(0);
+        }
+    }
+
+    private static final class ConstantPool {
+
+        private final ByteArrayOutputStream entries = new ByteArrayOutputStream(256);
+        private final DataOutputStream out = new DataOutputStream(this.entries);
+        private final Map<String, Integer> indices = new HashMap<>();
+        private int size = 1;
+
+        private int utf8(final String value) {
+            return this.entry("U" + value, () -> {
+                this.out.writeByte(1);
+                this.out.writeUTF(value);
+            });
+        }
+
+        private int type(final Class<?> type) {
+            return this.type(internalName(type));
+        }
+
+        private int type(final String internalName) {
+            final int name = this.utf8(internalName);
+            return this.entry("C" + internalName, () -> {
+                this.out.writeByte(7);
+                this.out.writeShort(name);
+            });
+        }
+
+        // tag 9 is a field reference, tag 10 a method reference
+        private int member(final int tag, final Class<?> owner, final String name, final String descriptor) {
+            final int ownerIndex = this.type(owner);
+            final int nameIndex = this.utf8(name);
+            final int descriptorIndex = this.utf8(descriptor);
+            final int nameAndType = this.entry("N" + name + ":" + descriptor, () -> {
+                this.out.writeByte(12);
+                this.out.writeShort(nameIndex);
+                this.out.writeShort(descriptorIndex);
+            });
+
+            return this.entry(tag + internalName(owner) + "." + name + ":" + descriptor, () -> {
+                this.out.writeByte(tag);
+                this.out.writeShort(ownerIndex);
+                this.out.writeShort(nameAndType);
+            });
+        }
+
+        private int entry(final String key, final EntryWriter writer) {
+            final Integer existing = this.indices.get(key);
+            if (existing != null) {
+                return existing;
+            }
+
+            try {
+                writer.write();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            final int index = this.size++;
+            this.indices.put(key, index);
+            return index;
+        }
+
+        private void write(final DataOutputStream target) throws IOException {
+            target.writeShort(this.size);
+            this.entries.writeTo(target);
+        }
+    }
+
+    @FunctionalInterface
+    private interface EntryWriter {
+
+        void write() throws IOException;
+
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.objectmapper.discoverer;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import org.aero.conversion.core.exception.ConversionException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+final class ConstructorFieldDiscoverer implements FieldDiscoverer<Object[]> {
+
+    static final ConstructorFieldDiscoverer INSTANCE = new ConstructorFieldDiscoverer();
+
+    // java.beans lives in the java.desktop module, which is not necessarily part of the runtime image
+    private static final Class<? extends Annotation> CONSTRUCTOR_PROPERTIES;
+    private static final Method CONSTRUCTOR_PROPERTIES_VALUE;
+
+    static {
+        Class<? extends Annotation> annotation = null;
+        Method value = null;
+        try {
+            annotation = Class.forName("java.beans.ConstructorProperties").asSubclass(Annotation.class);
+            value = annotation.getMethod("value");
+        } catch (final ReflectiveOperationException | LinkageError ignored) {
+            annotation = null;
+        }
+        CONSTRUCTOR_PROPERTIES = annotation;
+        CONSTRUCTOR_PROPERTIES_VALUE = value;
+    }
+
+    private ConstructorFieldDiscoverer() {
+
+    }
+
+    @Override
+    public <U> @Nullable Result<U, Object[]> discover(@NotNull final Type targetType) throws ConversionException {
+        final Class<?> erasedTargetType = GenericTypeReflector.erase(targetType);
+        if (erasedTargetType.isInterface() || Modifier.isAbstract(erasedTargetType.getModifiers())) {
+            return null;
+        }
+
+        final boolean isRecord = erasedTargetType.isRecord();
+        // mutable classes which can be created empty are left to the field discoverers, so values can be loaded into an instance
+        final Constructor<?> constructor = isRecord ? canonicalConstructor(erasedTargetType) : propertiesConstructor(erasedTargetType);
+        if (constructor == null || !isRecord && isMutable(erasedTargetType)) {
+            return null;
+        }
+
+        final String[] names = isRecord ? componentNames(erasedTargetType) : propertyNames(constructor);
+        // other discoverers handle classes whose constructor does not describe every field
+        if (names == null || names.length != constructor.getParameterCount() || !isRecord && !coversFields(erasedTargetType, names)) {
+            return null;
+        }
+
+        final Type[] parameterTypes = GenericTypeReflector.getExactParameterTypes(constructor, targetType);
+        final Object[] defaults = new Object[names.length];
+        final List<FieldData<U, Object[]>> fields = new ArrayList<>(names.length);
+        for (int i = 0; i < names.length; i++) {
+            final Field field = field(erasedTargetType, names[i]);
+            if (field == null) {
+                return null;
+            }
+
+            final MethodHandles.Lookup lookup = GeneratedFieldDiscoverer.lookup(field.getDeclaringClass());
+            final Function<Object, Object> accessor = GeneratedFieldDiscoverer.accessor(lookup, field);
+            final FieldData.Serializer<U> serializer;
+            if (accessor == null) {
+                field.setAccessible(true);
+                serializer = field::get;
+            } else {
+                serializer = accessor::apply;
+            }
+
+            final int index = i;
+            fields.add(new FieldData<>(names[i], parameterTypes[i], (values, value) -> values[index] = value, serializer));
+
+            // primitive parameters which are not part of the source keep their default value
+            final Class<?> parameterType = constructor.getParameterTypes()[i];
+            defaults[i] = parameterType.isPrimitive() ? Array.get(Array.newInstance(parameterType, 1), 0) : null;
+        }
+
+        final MethodHandle instantiator = instantiator(targetType, constructor);
+        return new Result<>(fields, new InstanceFactory<>() {
+            @Override
+            public Object[] begin() {
+                return defaults.clone();
+            }
+
+            @Override
+            public void complete(final Object value, final Object[] intermediate) throws ConversionException {
+                throw new ConversionException(targetType, "Instances of this type can not be modified after creation");
+            }
+
+            @Override
+            public Object complete(final Object[] intermediate) throws ConversionException {
+                try {
+                    return (Object) instantiator.invokeExact(intermediate);
+                } catch (final Error e) {
+                    throw e;
+                } catch (final Throwable e) {
+                    throw new ConversionException(targetType, e);
+                }
+            }
+        });
+    }
+
+    private static Constructor<?> canonicalConstructor(final Class<?> type) throws ConversionException {
+        final RecordComponent[] components = type.getRecordComponents();
+        final Class<?>[] parameterTypes = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            parameterTypes[i] = components[i].getType();
+        }
+
+        try {
+            return type.getDeclaredConstructor(parameterTypes);
+        } catch (final NoSuchMethodException e) {
+            throw new ConversionException(type, e);
+        }
+    }
+
+    private static String[] componentNames(final Class<?> type) {
+        final RecordComponent[] components = type.getRecordComponents();
+        final String[] names = new String[components.length];
+        for (int i = 0; i < components.length; i++) {
+            names[i] = components[i].getName();
+        }
+        return names;
+    }
+
+    private static @Nullable Constructor<?> propertiesConstructor(final Class<?> type) {
+        if (CONSTRUCTOR_PROPERTIES == null) {
+            return null;
+        }
+
+        Constructor<?> found = null;
+        for (final Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.isAnnotationPresent(CONSTRUCTOR_PROPERTIES)
+                && (found == null || constructor.getParameterCount() > found.getParameterCount())) {
+                found = constructor;
+            }
+        }
+        return found;
+    }
+
+    private static String @Nullable [] propertyNames(final Constructor<?> constructor) {
+        try {
+            return (String[]) CONSTRUCTOR_PROPERTIES_VALUE.invoke(constructor.getAnnotation(CONSTRUCTOR_PROPERTIES));
+        } catch (final ReflectiveOperationException ignored) {
+            return null;
+        }
+    }
+
+    private static boolean isMutable(final Class<?> type) {
+        try {
+            type.getDeclaredConstructor();
+        } catch (final NoSuchMethodException ignored) {
+            return false;
+        }
+
+        for (Class<?> current = type; current != null && !current.equals(Object.class); current = current.getSuperclass()) {
+            for (final Field field : current.getDeclaredFields()) {
+                if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT | Modifier.FINAL)) == 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean coversFields(final Class<?> type, final String[] names) {
+        final Set<String> parameters = new HashSet<>(Arrays.asList(names));
+        for (Class<?> current = type; current != null && !current.equals(Object.class); current = current.getSuperclass()) {
+            for (final Field field : current.getDeclaredFields()) {
+                if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) == 0 && !parameters.contains(field.getName())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static @Nullable Field field(final Class<?> type, final String name) {
+        for (Class<?> current = type; current != null && !current.equals(Object.class); current = current.getSuperclass()) {
+            try {
+                final Field field = current.getDeclaredField(name);
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    return field;
+                }
+            } catch (final NoSuchFieldException ignored) {
+                // continue with the super class
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandle instantiator(final Type targetType, final Constructor<?> constructor) throws ConversionException {
+        MethodHandle handle = null;
+        final MethodHandles.Lookup lookup = GeneratedFieldDiscoverer.lookup(constructor.getDeclaringClass());
+        try {
+            if (lookup != null) {
+                handle = lookup.unreflectConstructor(constructor);
+            }
+        } catch (final IllegalAccessException ignored) {
+            // fall back to reflection below
+        }
+
+        try {
+            if (handle == null) {
+                constructor.setAccessible(true);
+                handle = MethodHandles.lookup().unreflectConstructor(constructor);
+            }
+        } catch (final IllegalAccessException e) {
+            throw new ConversionException(targetType, e);
+        }
+
+        return handle.asSpreader(Object[].class, constructor.getParameterCount()).asType(MethodType.methodType(Object.class, Object[].class));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.objectmapper.discoverer;
+
+import org.aero.conversion.core.exception.ConversionException;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.function.Supplier;
+
+@SuppressWarnings("ClassCanBeRecord")
+final class DirectInstanceFactory implements FieldDiscoverer.MutableInstanceFactory<Object> {
+
+    private final Type type;
+    private final Supplier<Object> maker;
+
+    DirectInstanceFactory(final Type type, @Nullable final Supplier<Object> maker) {
+        this.type = type;
+        this.maker = maker;
+    }
+
+    @Override
+    public Object begin() throws ConversionException {
+        final Object instance;
+        try {
+            instance = this.maker == null ? null : this.maker.get();
+        } catch (final Exception e) {
+            // generated instantiators rethrow the checked exceptions of the constructor as they are
+            throw new ConversionException(this.type, e);
+        }
+
+        if (instance == null) {
+            throw new ConversionException(this.type, "Unable to create instances for this type");
+        }
+        return instance;
+    }
+
+    @Override
+    public Object begin(final Object instance) {
+        return instance;
+    }
+
+    @Override
+    public void complete(final Object value, final Object intermediate) {
+        // fields have already been written to the instance
+    }
+
+    @Override
+    public Object complete(final Object intermediate) {
+        return intermediate;
+    }
+}
@@ -32,6 +32,16 @@
 
     @SuppressWarnings("MissingJavaDocMethod")
     static @NotNull FieldDiscoverer<?> create() {
+        return GeneratedFieldDiscoverer.INSTANCE;
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    static @NotNull FieldDiscoverer<?> constructorBased() {
+        return ConstructorFieldDiscoverer.INSTANCE;
+    }
+
+    @SuppressWarnings("MissingJavaDocMethod")
+    static @NotNull FieldDiscoverer<?> reflective() {
         return ObjectFieldDiscoverer.EMPTY_CONSTRUCTOR_INSTANCE;
     }
 
@@ -48,7 +58,7 @@
     interface InstanceFactory<T> {
 
         @SuppressWarnings("MissingJavaDocMethod")
-        T begin();
+        T begin() throws ConversionException;
 
         @SuppressWarnings("MissingJavaDocMethod")
         void complete(Object value, T intermediate) throws ConversionException;
@@ -58,6 +68,14 @@
 
     }
 
+    @SuppressWarnings("MissingJavaDocType")
+    interface MutableInstanceFactory<T> extends InstanceFactory<T> {
+
+        @SuppressWarnings("MissingJavaDocMethod")
+        T begin(Object instance);
+
+    }
+
     @SuppressWarnings("MissingJavaDocType")
     record Result<T, U>(List<FieldData<T, U>> fieldData, FieldDiscoverer.InstanceFactory<U> instanceFactory) {
 
@@ -71,6 +89,58 @@
 
         }
 
+        @SuppressWarnings("MissingJavaDocType")
+        @FunctionalInterface
+        public interface IntDeserializer<T> extends Deserializer<T> {
+
+            @SuppressWarnings("MissingJavaDocMethod")
+            void acceptInt(T instance, int value);
+
+            @Override
+            default void accept(final T instance, final Object value) {
+                this.acceptInt(instance, (Integer) value);
+            }
+        }
+
+        @SuppressWarnings("MissingJavaDocType")
+        @FunctionalInterface
+        public interface LongDeserializer<T> extends Deserializer<T> {
+
+            @SuppressWarnings("MissingJavaDocMethod")
+            void acceptLong(T instance, long value);
+
+            @Override
+            default void accept(final T instance, final Object value) {
+                this.acceptLong(instance, (Long) value);
+            }
+        }
+
+        @SuppressWarnings("MissingJavaDocType")
+        @FunctionalInterface
+        public interface DoubleDeserializer<T> extends Deserializer<T> {
+
+            @SuppressWarnings("MissingJavaDocMethod")
+            void acceptDouble(T instance, double value);
+
+            @Override
+            default void accept(final T instance, final Object value) {
+                this.acceptDouble(instance, (Double) value);
+            }
+        }
+
+        @SuppressWarnings("MissingJavaDocType")
+        @FunctionalInterface
+        public interface BooleanDeserializer<T> extends Deserializer<T> {
+
+            @SuppressWarnings("MissingJavaDocMethod")
+            void acceptBoolean(T instance, boolean value);
+
+            @Override
+            default void accept(final T instance, final Object value) {
+                this.acceptBoolean(instance, (Boolean) value);
+            }
+        }
+
         @SuppressWarnings("MissigJavaDocType")
         public interface Serializer<T> extends ThrowableFunction<T, Object, IllegalAccessException> {
 
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.objectmapper.discoverer;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import org.aero.conversion.core.exception.ConversionException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+@SuppressWarnings("unchecked")
+final class GeneratedFieldDiscoverer implements FieldDiscoverer<Object> {
+
+    static final GeneratedFieldDiscoverer INSTANCE = new GeneratedFieldDiscoverer();
+
+    private GeneratedFieldDiscoverer() {
+
+    }
+
+    @Override
+    public <U> Result<U, Object> discover(@NotNull final Type targetType) throws ConversionException {
+        final Class<?> erasedTargetType = GenericTypeReflector.erase(targetType);
+        if (erasedTargetType.isInterface()) {
+            throw new ConversionException(targetType, "ObjectMapper can only work with concrete types");
+        }
+
+        final Supplier<Object> maker = instantiator(erasedTargetType);
+        final List<FieldData<U, Object>> fields = new ArrayList<>();
+        Type collectType = targetType;
+        Class<?> collectClass = erasedTargetType;
+        while (true) {
+            final MethodHandles.Lookup lookup = lookup(collectClass);
+            for (final Field field : collectClass.getDeclaredFields()) {
+                if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) != 0) {
+                    continue;
+                }
+
+                final Function<Object, Object> accessor = accessor(lookup, field);
+                final FieldData.Serializer<U> serializer;
+                if (accessor == null) {
+                    field.setAccessible(true);
+                    serializer = field::get;
+                } else {
+                    serializer = accessor::apply;
+                }
+
+                // final fields may only be written from within a constructor, so they are set through reflection
+                final FieldData.Deserializer<Object> deserializer;
+                if (accessor instanceof ObjIntConsumer<?> && field.getType() == int.class) {
+                    final ObjIntConsumer<Object> setter = (ObjIntConsumer<Object>) accessor;
+                    deserializer = (FieldData.IntDeserializer<Object>) setter::accept;
+                } else if (accessor instanceof ObjIntConsumer<?> && field.getType() == boolean.class) {
+                    final ObjIntConsumer<Object> setter = (ObjIntConsumer<Object>) accessor;
+                    deserializer = (FieldData.BooleanDeserializer<Object>) (instance, value) -> setter.accept(instance, value ? 1 : 0);
+                } else if (accessor instanceof ObjLongConsumer<?>) {
+                    final ObjLongConsumer<Object> setter = (ObjLongConsumer<Object>) accessor;
+                    deserializer = (FieldData.LongDeserializer<Object>) setter::accept;
+                } else if (accessor instanceof ObjDoubleConsumer<?>) {
+                    final ObjDoubleConsumer<Object> setter = (ObjDoubleConsumer<Object>) accessor;
+                    deserializer = (FieldData.DoubleDeserializer<Object>) setter::accept;
+                } else if (accessor instanceof BiConsumer<?, ?>) {
+                    final BiConsumer<Object, Object> setter = (BiConsumer<Object, Object>) accessor;
+                    deserializer = setter::accept;
+                } else {
+                    field.setAccessible(true);
+                    deserializer = (instance, value) -> ObjectFieldDiscoverer.set(field, instance, value);
+                }
+
+                fields.add(new FieldData<>(field.getName(), GenericTypeReflector.getFieldType(field, collectType), deserializer, serializer));
+            }
+
+            collectClass = collectClass.getSuperclass();
+            if (collectClass.equals(Object.class)) {
+                break;
+            }
+            collectType = GenericTypeReflector.getExactSuperType(collectType, collectClass);
+        }
+
+        return new Result<>(fields, new DirectInstanceFactory(targetType, maker));
+    }
+
+    static @Nullable MethodHandles.Lookup lookup(final Class<?> type) {
+        if (type.isHidden()) {
+            return null;
+        }
+
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            return lookup.hasFullPrivilegeAccess() ? lookup : null;
+        } catch (final IllegalAccessException | SecurityException ignored) {
+            return null;
+        }
+    }
+
+    static @Nullable Function<Object, Object> accessor(@Nullable final MethodHandles.Lookup lookup, final Field field) {
+        if (lookup == null) {
+            return null;
+        }
+
+        Class<?> fieldType = field.getType();
+        while (fieldType.isArray()) {
+            fieldType = fieldType.getComponentType();
+        }
+
+        try {
+            lookup.accessClass(fieldType);
+            return AccessorGenerator.fieldAccessor(lookup, field);
+        } catch (final ReflectiveOperationException | LinkageError ignored) {
+            return null;
+        }
+    }
+
+    private static @Nullable Supplier<Object> instantiator(final Class<?> type) {
+        if (Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+
+        final MethodHandles.Lookup lookup = lookup(type);
+        try {
+            type.getDeclaredConstructor();
+            if (lookup != null) {
+                return AccessorGenerator.instantiator(lookup, type);
+            }
+        } catch (final NoSuchMethodException ignored) {
+            return null;
+        } catch (final ReflectiveOperationException | LinkageError ignored) {
+            // fall back to reflection below
+        }
+
+        return new ObjectFieldDiscoverer.EmptyConstructorFactory().apply(type);
+    }
+}
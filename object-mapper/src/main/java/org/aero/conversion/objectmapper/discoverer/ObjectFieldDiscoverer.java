@@ -19,6 +19,7 @@
 import io.leangen.geantyref.GenericTypeReflector;
 import org.aero.common.core.function.ThrowableFunction;
 import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.core.exception.UncheckedConversionException;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Constructor;
@@ -27,13 +28,11 @@
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Supplier;
 
 @SuppressWarnings("ClassCanBeRecord")
-final class ObjectFieldDiscoverer implements FieldDiscoverer<Map<Field, Object>> {
+final class ObjectFieldDiscoverer implements FieldDiscoverer<Object> {
 
     static final ObjectFieldDiscoverer EMPTY_CONSTRUCTOR_INSTANCE = new ObjectFieldDiscoverer(new EmptyConstructorFactory(), false);
 
@@ -48,7 +47,7 @@ final class ObjectFieldDiscoverer implements FieldDiscoverer<Map<Field, Object>>
     }
 
     @Override
-    public <U> Result<U, Map<Field, Object>> discover(@NotNull final Type targetType) throws ConversionException {
+    public <U> Result<U, Object> discover(@NotNull final Type targetType) throws ConversionException {
         final Class<?> erasedTargetType = GenericTypeReflector.erase(targetType);
         if (erasedTargetType.isInterface()) {
             throw new ConversionException(targetType, "ObjectMapper can only work with concrete types");
@@ -59,7 +58,7 @@ public <U> Result<U, Map<Field, Object>> discover(@NotNull final Type targetType
             return null;
         }
 
-        final List<FieldData<U, Map<Field, Object>>> fields = new ArrayList<>();
+        final List<FieldData<U, Object>> fields = new ArrayList<>();
         Type collectType = targetType;
         Class<?> collectClass = erasedTargetType;
         while (true) {
@@ -73,7 +72,7 @@ public <U> Result<U, Map<Field, Object>> discover(@NotNull final Type targetType
                 fields.add(new FieldData<>(
                     field.getName(),
                     fieldType,
-                    (intermediate, value) -> intermediate.put(field, value),
+                    (instance, value) -> set(field, instance, value),
                     field::get
                 ));
             }
@@ -85,36 +84,20 @@ public <U> Result<U, Map<Field, Object>> discover(@NotNull final Type targetType
             collectType = GenericTypeReflector.getExactSuperType(collectType, collectClass);
         }
 
-        return new Result<>(fields, new InstanceFactory<>() {
-            @Override
-            public Map<Field, Object> begin() {
-                return new HashMap<>();
-            }
-
-            @Override
-            public void complete(final Object instance, final Map<Field, Object> fieldData) throws ConversionException {
-                for (final Map.Entry<Field, Object> entry : fieldData.entrySet()) {
-                    try {
-                        entry.getKey().set(instance, entry.getValue());
-                    } catch (final IllegalAccessException e) {
-                        throw new ConversionException(targetType, e);
-                    }
-                }
-            }
+        return new Result<>(fields, new DirectInstanceFactory(targetType, maker));
+    }
 
-            @Override
-            public Object complete(final Map<Field, Object> fieldData) throws ConversionException {
-                final Object instance = maker == null ? null : maker.get();
-                if (instance == null) {
-                    throw new ConversionException(targetType, "Unable to create instances for this type");
-                }
-                this.complete(instance, fieldData);
-                return instance;
-            }
-        });
+    // deserializers cannot throw checked exceptions, the object mapper unwraps the ConversionException again
+    static void set(final Field field, final Object instance, final Object value) {
+        try {
+            field.set(instance, value);
+        } catch (final IllegalAccessException e) {
+            throw new UncheckedConversionException(new ConversionException(field.getDeclaringClass(),
+                "Field " + field.getName() + " of " + field.getDeclaringClass().getName() + " is read-only", e));
+        }
     }
 
-    private static final class EmptyConstructorFactory implements ThrowableFunction<Type, Supplier<Object>, ConversionException> {
+    static final class EmptyConstructorFactory implements ThrowableFunction<Type, Supplier<Object>, ConversionException> {
 
         @Override
         public Supplier<Object> apply(final Type type) {
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.objectmapper;
+
+import org.aero.conversion.core.ConversionBus;
+import org.aero.conversion.core.exception.ConversionException;
+import org.aero.conversion.objectmapper.discoverer.FieldDiscoverer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.beans.ConstructorProperties;
+import java.io.IOException;
+import java.util.Map;
+
+class ObjectMapperTest {
+
+    @Test
+    void testReadOnlyFieldsFailWithConversionException() throws ConversionException {
+        final ObjectMapper.Factory factory = ObjectMapper.factoryBuilder()
+            .addDiscoverer(FieldDiscoverer.reflective())
+            .conversionBus(ConversionBus.createDefault())
+            .build();
+        final ObjectMapper<Point> mapper = factory.get(Point.class);
+
+        final ConversionException exception = Assertions.assertThrows(ConversionException.class, () -> mapper.load(new Point(1, 2), Map.of("x", 5)));
+        Assertions.assertTrue(exception.getMessage().contains("read-only"));
+    }
+
+    @Test
+    void testLoadIntoInstanceIsAtomic() throws ConversionException {
+        final ObjectMapper<Mutable> mapper = ObjectMapper.factory().get(Mutable.class);
+        final Mutable value = new Mutable();
+        value.first = 1;
+        value.second = 2;
+
+        Assertions.assertThrows(ConversionException.class, () -> mapper.load(value, Map.of("first", 10, "second", "invalid")));
+        Assertions.assertEquals(1, value.first);
+        Assertions.assertEquals(2, value.second);
+
+        mapper.load(value, Map.of("first", 10, "second", "20"));
+        Assertions.assertEquals(10, value.first);
+        Assertions.assertEquals(20, value.second);
+    }
+
+    @Test
+    void testConstructorProperties() throws ConversionException {
+        final ObjectMapper<Immutable> mapper = ObjectMapper.factory().get(Immutable.class);
+
+        final Immutable value = mapper.load(Map.of("name", "test", "count", "3"));
+        Assertions.assertEquals("test", value.name);
+        Assertions.assertEquals(3, value.count);
+        Assertions.assertEquals(Map.of("name", "test", "count", 3), mapper.save(value));
+    }
+
+    @Test
+    void testConstructorPropertiesWithUncoveredFields() throws ConversionException {
+        final ObjectMapper<Partial> mapper = ObjectMapper.factory().get(Partial.class);
+
+        final Partial value = mapper.load(Map.of("name", "test", "count", 3));
+        Assertions.assertEquals("test", value.name);
+        Assertions.assertEquals(3, value.count);
+        Assertions.assertEquals(Map.of("name", "test", "count", 3), mapper.save(value));
+    }
+
+    @Test
+    void testConstructorPropertiesWithUnknownNames() throws ConversionException {
+        final ObjectMapper<Mismatched> mapper = ObjectMapper.factory().get(Mismatched.class);
+
+        final Mismatched value = mapper.load(Map.of("name", "test"));
+        Assertions.assertEquals("test", value.name);
+        Assertions.assertEquals(Map.of("name", "test"), mapper.save(value));
+    }
+
+    @Test
+    void testLoadIntoMutableConstructorPropertiesClass() throws ConversionException {
+        final ObjectMapper<Bean> mapper = ObjectMapper.factory().get(Bean.class);
+        final Bean value = new Bean("before", 1);
+
+        mapper.load(value, Map.of("name", "after", "count", 2));
+        Assertions.assertEquals("after", value.name);
+        Assertions.assertEquals(2, value.count);
+        Assertions.assertEquals(7, mapper.load(Map.of("name", "new", "count", 7)).count);
+    }
+
+    @Test
+    void testConstructorExceptionsFailWithConversionException() throws ConversionException {
+        final ObjectMapper<Failing> mapper = ObjectMapper.factory().get(Failing.class);
+
+        final ConversionException exception = Assertions.assertThrows(ConversionException.class, () -> mapper.load(Map.of("value", 1)));
+        Assertions.assertInstanceOf(IOException.class, exception.getCause());
+    }
+
+    @Test
+    void testLaterRegisteredConvertersAreUsed() throws ConversionException {
+        final ConversionBus conversionBus = ConversionBus.createDefault();
+        final ObjectMapper<Partial> mapper = ObjectMapper.factoryBuilder()
+            .addDiscoverer(FieldDiscoverer.create())
+            .conversionBus(conversionBus)
+            .build()
+            .get(Partial.class);
+        Assertions.assertEquals("5", mapper.load(Map.of("name", 5)).name);
+
+        conversionBus.register(Integer.class, String.class, (source, sourceType, targetType) -> "number " + source);
+        Assertions.assertEquals("number 5", mapper.load(Map.of("name", 5)).name);
+    }
+
+    @Test
+    void testEvictionKeepsRecentlyUsedMappers() throws ConversionException {
+        final ObjectMapper.Factory factory = ObjectMapper.factoryBuilder()
+            .addDiscoverer(FieldDiscoverer.create())
+            .maximumMappers(2)
+            .build();
+        final ObjectMapper<Mutable> first = factory.get(Mutable.class);
+        final ObjectMapper<Partial> second = factory.get(Partial.class);
+        Assertions.assertSame(first, factory.get(Mutable.class));
+
+        factory.get(Mismatched.class);
+        Assertions.assertSame(first, factory.get(Mutable.class));
+        Assertions.assertNotSame(second, factory.get(Partial.class));
+    }
+
+    @Test
+    void testEvictionFirstInFirstOut() throws ConversionException {
+        final ObjectMapper.Factory factory = ObjectMapper.factoryBuilder()
+            .addDiscoverer(FieldDiscoverer.create())
+            .maximumMappers(2)
+            .evictionPolicy(ObjectMapper.Factory.EvictionPolicy.FIRST_IN_FIRST_OUT)
+            .build();
+        final ObjectMapper<Mutable> first = factory.get(Mutable.class);
+        final ObjectMapper<Partial> second = factory.get(Partial.class);
+        Assertions.assertSame(first, factory.get(Mutable.class));
+
+        factory.get(Mismatched.class);
+        Assertions.assertSame(second, factory.get(Partial.class));
+        Assertions.assertNotSame(first, factory.get(Mutable.class));
+    }
+
+    record Point(int x, int y) {
+
+    }
+
+    static final class Mutable {
+
+        private int first;
+        private int second;
+
+    }
+
+    static final class Immutable {
+
+        private final String name;
+        private final int count;
+
+        @ConstructorProperties({"name", "count"})
+        Immutable(final String name, final int count) {
+            this.name = name;
+            this.count = count;
+        }
+    }
+
+    static final class Partial {
+
+        private String name;
+        private int count;
+
+        Partial() {
+
+        }
+
+        @ConstructorProperties("name")
+        Partial(final String name) {
+            this.name = name;
+        }
+    }
+
+    static final class Bean {
+
+        private String name;
+        private int count;
+
+        Bean() {
+
+        }
+
+        @ConstructorProperties({"name", "count"})
+        Bean(final String name, final int count) {
+            this.name = name;
+            this.count = count;
+        }
+    }
+
+    static final class Failing {
+
+        private int value;
+
+        Failing() throws IOException {
+            throw new IOException("Unable to create " + this.value);
+        }
+    }
+
+    static final class Mismatched {
+
+        private String name;
+
+        Mismatched() {
+
+        }
+
+        @ConstructorProperties("unknown")
+        Mismatched(final String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020-2023 AeroService
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.aero.conversion.objectmapper.discoverer;
+
+import org.aero.conversion.core.exception.ConversionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@SuppressWarnings("unchecked")
+class GeneratedFieldDiscovererTest {
+
+    @Test
+    void testGeneratedAccessors() throws Exception {
+        final FieldDiscoverer.Result<Object, Object> result = GeneratedFieldDiscoverer.INSTANCE.discover(Fields.class);
+        final Map<String, FieldDiscoverer.FieldData<Object, Object>> fields = new HashMap<>();
+        for (final FieldDiscoverer.FieldData<Object, Object> field : result.fieldData()) {
+            fields.put(field.name(), field);
+        }
+        Assertions.assertEquals(11, fields.size());
+
+        final Object instance = new Fields();
+        final Map<String, Object> values = Map.of("b", (byte) 1, "s", (short) 2, "c", 'c', "i", 4, "l", 5L, "f", 6.5F, "d", 7.5D, "z", true,
+            "object", List.of(8), "fixed", "changed");
+        for (final Map.Entry<String, Object> value : values.entrySet()) {
+            fields.get(value.getKey()).deserializer().accept(instance, value.getValue());
+            Assertions.assertEquals(value.getValue(), fields.get(value.getKey()).serializer().apply(instance));
+        }
+        fields.get("inherited").deserializer().accept(instance, "base");
+        Assertions.assertEquals("base", ((Base) instance).inherited);
+
+        // primitive setters write without boxing
+        ((FieldDiscoverer.FieldData.IntDeserializer<Object>) fields.get("i").deserializer()).acceptInt(instance, 40);
+        ((FieldDiscoverer.FieldData.LongDeserializer<Object>) fields.get("l").deserializer()).acceptLong(instance, 50L);
+        ((FieldDiscoverer.FieldData.DoubleDeserializer<Object>) fields.get("d").deserializer()).acceptDouble(instance, 70.5D);
+        ((FieldDiscoverer.FieldData.BooleanDeserializer<Object>) fields.get("z").deserializer()).acceptBoolean(instance, false);
+        final Fields written = (Fields) instance;
+        Assertions.assertEquals(40, written.i);
+        Assertions.assertEquals(50L, written.l);
+        Assertions.assertEquals(70.5D, written.d);
+        Assertions.assertFalse(written.z);
+    }
+
+    @Test
+    void testAccessorClasses() throws Exception {
+        final MethodHandles.Lookup lookup = GeneratedFieldDiscoverer.lookup(Fields.class);
+        Assertions.assertNotNull(lookup);
+
+        for (final Field field : Fields.class.getDeclaredFields()) {
+            final Function<Object, Object> accessor = GeneratedFieldDiscoverer.accessor(lookup, field);
+            Assertions.assertNotNull(accessor);
+            Assertions.assertTrue(accessor.getClass().isHidden());
+            // final fields are only read by the generated class
+            Assertions.assertEquals(!field.getName().equals("fixed"), accessor instanceof BiConsumer<?, ?>);
+        }
+
+        final Field inherited = Base.class.getDeclaredField("inherited");
+        final Function<Object, Object> accessor = GeneratedFieldDiscoverer.accessor(GeneratedFieldDiscoverer.lookup(Base.class), inherited);
+        final Fields instance = new Fields();
+        ((BiConsumer<Object, Object>) accessor).accept(instance, "written");
+        Assertions.assertEquals("written", accessor.apply(instance));
+    }
+
+    @Test
+    void testGeneratedInstantiator() throws Exception {
+        final Supplier<Object> instantiator = AccessorGenerator.instantiator(GeneratedFieldDiscoverer.lookup(Fields.class), Fields.class);
+        Assertions.assertTrue(instantiator.getClass().isHidden());
+        Assertions.assertInstanceOf(Fields.class, instantiator.get());
+        Assertions.assertNotSame(instantiator.get(), instantiator.get());
+
+        final FieldDiscoverer.Result<Object, Object> result = GeneratedFieldDiscoverer.INSTANCE.discover(Fields.class);
+        Assertions.assertInstanceOf(Fields.class, result.instanceFactory().begin());
+        Assertions.assertThrows(ConversionException.class, () -> GeneratedFieldDiscoverer.INSTANCE.discover(NoDefaultConstructor.class)
+            .instanceFactory().begin());
+    }
+
+    @Test
+    void testReflectionFallback() throws Exception {
+        Assertions.assertNull(GeneratedFieldDiscoverer.accessor(null, Fields.class.getDeclaredField("i")));
+
+        // lambdas are hidden classes, which cannot be accessed by a lookup to define a nestmate
+        final Integer captured = Integer.valueOf(42);
+        final Supplier<Integer> lambda = () -> captured;
+        Assertions.assertNull(GeneratedFieldDiscoverer.lookup(lambda.getClass()));
+
+        final FieldDiscoverer.Result<Object, Object> result = GeneratedFieldDiscoverer.INSTANCE.discover(lambda.getClass());
+        Assertions.assertEquals(1, result.fieldData().size());
+        Assertions.assertEquals(42, result.fieldData().get(0).serializer().apply(lambda));
+    }
+
+    private static class Base {
+
+        private String inherited;
+
+    }
+
+    private static final class Fields extends Base {
+
+        private byte b;
+        private short s;
+        private char c;
+        private int i;
+        private long l;
+        private float f;
+        private double d;
+        private boolean z;
+        private Object object;
+        private final String fixed;
+
+        private Fields() {
+            this.fixed = "initial";
+        }
+    }
+
+    private static final class NoDefaultConstructor {
+
+        private final int value;
+
+        private NoDefaultConstructor(final int value) {
+            this.value = value;
+        }
+    }
+}